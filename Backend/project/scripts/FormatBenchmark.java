@@ -0,0 +1,107 @@
+import com.esd.project.Config.BinaryFormatsConfig;
+import com.esd.project.DTO.Response.StudentBillResponse;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+// Encode/decode time and payload size of a student bill list in JSON, CBOR and Smile,
+// using the same mappers as the HTTP converters. Run through scripts/format-benchmark.sh.
+// All three mappers start from Spring Boot's auto-configuration, built from application.properties
+// (spring.jackson.*) exactly as the application builds them.
+public class FormatBenchmark {
+
+    private static final TypeReference<List<StudentBillResponse>> LIST = new TypeReference<>() {};
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<StudentBillResponse> bills = sample(rows);
+
+        System.out.printf("%d rows, median of %d rounds after %d warm-up rounds%n%n", rows, ROUNDS, WARMUP);
+        System.out.printf("%-6s %12s %12s %12s %12s%n", "format", "bytes", "gzip bytes", "encode ms", "decode ms");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            JsonMapper jsonMapper = context.getBean(JsonMapper.class);
+            run("json", jsonMapper, bills);
+            run("cbor", BinaryFormatsConfig.cborMapper(context.getBean(CBORMapper.Builder.class)), bills);
+            run("smile", BinaryFormatsConfig.smileMapper(jsonMapper), bills);
+        }
+    }
+
+    private static void run(String name, ObjectMapper mapper, List<StudentBillResponse> bills) throws IOException {
+        byte[] payload = mapper.writeValueAsBytes(bills);
+        List<StudentBillResponse> decoded = mapper.readValue(payload, LIST);
+        if (!decoded.equals(bills)) {
+            throw new IllegalStateException(name + " did not round-trip");
+        }
+
+        long[] encode = new long[ROUNDS];
+        long[] decode = new long[ROUNDS];
+        for (int i = -WARMUP; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            payload = mapper.writeValueAsBytes(bills);
+            long encoded = System.nanoTime();
+            mapper.readValue(payload, LIST);
+            long end = System.nanoTime();
+            if (i >= 0) {
+                encode[i] = encoded - start;
+                decode[i] = end - encoded;
+            }
+        }
+
+        System.out.printf("%-6s %12d %12d %12.1f %12.1f%n",
+                name, payload.length, gzip(payload), median(encode) / 1e6, median(decode) / 1e6);
+    }
+
+    private static List<StudentBillResponse> sample(int rows) {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        List<StudentBillResponse> bills = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int student = i / 12;
+            int bill = i % 12;
+            bills.add(new StudentBillResponse(
+                    (long) i + 1,
+                    String.format("IMT2022%03d", student % 1000),
+                    "Student " + student,
+                    "student" + student + "@iiitb.ac.in",
+                    (long) bill + 1,
+                    "Term fee component " + bill,
+                    1500.0 + bill * 250.75,
+                    start.plusDays(bill * 7L),
+                    start.plusDays(bill * 7L + 30)));
+        }
+        return bills;
+    }
+
+    private static long gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.size();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
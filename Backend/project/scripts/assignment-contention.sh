@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Hammers the same assignment from many concurrent clients and checks that
+# student_bills holds no duplicate (student_id, bill_id) pairs afterwards.
+#
+# Usage: scripts/assignment-contention.sh <rollNumber> <domain> <billId> [clients] [rounds]
+#   SESSION_COOKIE  JSESSIONID of a logged-in employee (required)
+#   MYSQL_ARGS      arguments for the mysql client, default "-uroot -padmin ESDPROJECT"
+
+set -euo pipefail
+
+ROLL="$1"
+DOMAIN="$2"
+BILL="$3"
+CLIENTS="${4:-32}"
+ROUNDS="${5:-20}"
+BASE="http://localhost:${SERVER_PORT:-8080}/student-bills"
+MYSQL_ARGS="${MYSQL_ARGS:--uroot -padmin ESDPROJECT}"
+: "${SESSION_COOKIE:?set SESSION_COOKIE to a logged-in JSESSIONID}"
+
+fire() {
+    local url="$1"
+    for ((r = 1; r <= ROUNDS; r++)); do
+        curl -s -o /dev/null -w '%{http_code}\n' -X POST -b "JSESSIONID=${SESSION_COOKIE}" "${url}"
+    done
+}
+
+run() {
+    local label="$1" url="$2"
+    local start end
+    start=$(date +%s%N)
+    for ((c = 1; c <= CLIENTS; c++)); do
+        fire "${url}" &
+    done > "/tmp/contention-${label}.log"
+    wait
+    end=$(date +%s%N)
+
+    local total=$((CLIENTS * ROUNDS))
+    local elapsed=$(((end - start) / 1000000))
+    echo "${label}: ${total} requests in ${elapsed} ms ($((total * 1000 / (elapsed > 0 ? elapsed : 1))) req/s)"
+    sort "/tmp/contention-${label}.log" | uniq -c | sed 's/^/    status /'
+}
+
+run "single" "${BASE}/assign-to-roll/${ROLL}/${BILL}"
+run "domain" "${BASE}/assign-to-domain/${DOMAIN}/${BILL}"
+
+# shellcheck disable=SC2086
+DUPLICATES=$(mysql ${MYSQL_ARGS} -N -e \
+    "select count(*) from (select 1 from student_bills group by student_id, bill_id having count(*) > 1) d")
+echo "duplicate pairs: ${DUPLICATES}"
+[[ "${DUPLICATES}" == "0" ]]
@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Compares JSON with the binary response formats (CBOR, Smile).
+#
+# Usage: scripts/format-benchmark.sh [rows] [rollNumber]
+#   rows        list size for the in-process encode/decode benchmark, default 100000
+#   rollNumber  also fetch /student-bills/all-bills-of-roll/<rollNumber> from a running
+#               server in each format (needs SESSION_COOKIE, a logged-in JSESSIONID)
+
+set -euo pipefail
+
+ROWS="${1:-100000}"
+ROLL="${2:-}"
+CP_FILE="target/benchmark-classpath.txt"
+
+mvn -B -q compile dependency:build-classpath -Dmdep.outputFile="${CP_FILE}"
+java -cp "target/classes:$(cat "${CP_FILE}")" scripts/FormatBenchmark.java "${ROWS}"
+
+if [[ -n "${ROLL}" ]]; then
+    : "${SESSION_COOKIE:?set SESSION_COOKIE to a logged-in JSESSIONID}"
+    URL="http://localhost:${SERVER_PORT:-8080}/student-bills/all-bills-of-roll/${ROLL}"
+
+    echo
+    printf '%-30s %12s %12s\n' "accept" "bytes" "seconds"
+    for accept in application/json application/cbor application/x-jackson-smile; do
+        curl -s -o /dev/null -H "Accept: ${accept}" --cookie "JSESSIONID=${SESSION_COOKIE}" \
+            -w "%{size_download} %{time_total}\n" "${URL}" \
+            | { read -r bytes seconds; printf '%-30s %12s %12s\n' "${accept}" "${bytes}" "${seconds}"; }
+    done
+fi
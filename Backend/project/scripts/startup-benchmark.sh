@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first answered HTTP request.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#   Build both variants first:
+#     mvn -B package -DskipTests                  (baseline jar)
+#     mvn -B -Pfast-startup package -DskipTests   (target/fast-startup with AOT + CDS)
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-8080}"
+URL="http://localhost:${PORT}/error"
+JAR="target/project-0.0.1-SNAPSHOT.jar"
+FAST_DIR="target/fast-startup"
+
+measure() {
+    local label="$1"; shift
+    local total=0
+
+    for ((i = 1; i <= RUNS; i++)); do
+        local start end pid
+        start=$(date +%s%N)
+        "$@" --server.port="${PORT}" > /dev/null 2>&1 &
+        pid=$!
+
+        until curl -s -o /dev/null "${URL}"; do
+            if ! kill -0 "${pid}" 2> /dev/null; then
+                echo "${label}: application exited before serving a request" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        end=$(date +%s%N)
+
+        kill "${pid}"
+        wait "${pid}" 2> /dev/null || true
+
+        local elapsed=$(((end - start) / 1000000))
+        total=$((total + elapsed))
+        echo "${label} run ${i}: ${elapsed} ms"
+    done
+
+    echo "${label} average: $((total / RUNS)) ms"
+}
+
+measure "baseline" java -jar "${JAR}"
+
+if [[ -f "${FAST_DIR}/application.jsa" ]]; then
+    (cd "${FAST_DIR}" && measure "fast-startup" java \
+        -XX:SharedArchiveFile=application.jsa \
+        -Dspring.aot.enabled=true \
+        -Dspring.profiles.active=fast \
+        -jar project-0.0.1-SNAPSHOT.jar)
+else
+    echo "No CDS archive in ${FAST_DIR}; build with -Pfast-startup to compare" >&2
+fi
@@ -0,0 +1,17 @@
+package com.esd.project.Audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class AuditEntry {
+
+    private String action;
+    private String actor;
+    private Long billId;
+    private String target;
+    private LocalDateTime occurredAt;
+}
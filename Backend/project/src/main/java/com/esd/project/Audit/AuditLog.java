@@ -0,0 +1,202 @@
+package com.esd.project.Audit;
+
+import com.esd.project.Event.ChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+// Captures every committed billing change into a ring buffer; a background thread
+// stores them in audit_log with multi-row inserts.
+//
+// Durability modes (audit.durability):
+//   async           - the request returns as soon as the entry is buffered;
+//                     buffered entries are lost if the process dies before the next flush
+//   flush-on-commit - after its transaction commits, the request waits (up to
+//                     audit.flush-timeout-ms) until its entry is stored
+@Component
+public class AuditLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long RETRY_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRingBuffer buffer;
+    private final boolean flushOnCommit;
+    private final long flushTimeoutMs;
+
+    private final Counter overflow;
+    private final Counter written;
+    private final Counter writeFailures;
+
+    private final Object flushMonitor = new Object();
+    private volatile long flushedSequence;
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public AuditLog(JdbcTemplate jdbcTemplate,
+                    MeterRegistry meterRegistry,
+                    @Value("${audit.durability:async}") String durability,
+                    @Value("${audit.buffer-capacity:8192}") int capacity,
+                    @Value("${audit.flush-timeout-ms:2000}") long flushTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer(capacity);
+        this.flushOnCommit = "flush-on-commit".equalsIgnoreCase(durability);
+        this.flushTimeoutMs = flushTimeoutMs;
+
+        this.overflow = Counter.builder("audit.buffer.overflow")
+                .description("Audit entries dropped because the buffer was full")
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.records.written").register(meterRegistry);
+        this.writeFailures = Counter.builder("audit.write.failures").register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, AuditRingBuffer::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        writer = new Thread(this::runWriter, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        String target = event.getDomain() != null
+                ? "domain:" + event.getDomain()
+                : event.getRollNumbers() != null ? "roll:" + String.join(",", event.getRollNumbers())
+                : event.getBillIds() != null ? "bills:" + event.getBillIds().stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","))
+                : null;
+
+        String actor = event.getActor() != null ? event.getActor() : currentActor();
+        record(new AuditEntry(event.getType().name(), actor, event.getBillId(), target, LocalDateTime.now()));
+    }
+
+    public void record(AuditEntry entry) {
+        long sequence = buffer.offer(entry);
+        if (sequence < 0) {
+            overflow.increment();
+            return;
+        }
+        if (flushOnCommit) {
+            LockSupport.unpark(writer);
+            awaitFlushed(sequence);
+        }
+    }
+
+    private void awaitFlushed(long sequence) {
+        long deadline = System.currentTimeMillis() + flushTimeoutMs;
+        synchronized (flushMonitor) {
+            while (flushedSequence <= sequence) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return;
+                }
+                try {
+                    flushMonitor.wait(remaining);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<AuditEntry> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || buffer.size() > 0) {
+            if (batch.isEmpty() && buffer.drainTo(batch, BATCH_SIZE) == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            try {
+                insert(batch);
+            } catch (RuntimeException ex) {
+                // Keep the batch and retry; new entries overflow (and are counted) meanwhile
+                writeFailures.increment();
+                log.warn("Audit write of {} entries failed, retrying", batch.size(), ex);
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(RETRY_PARK_NANOS);
+                continue;
+            }
+
+            written.increment(batch.size());
+            batch.clear();
+            synchronized (flushMonitor) {
+                flushedSequence = buffer.consumedSequence();
+                flushMonitor.notifyAll();
+            }
+        }
+    }
+
+    private void insert(List<AuditEntry> batch) {
+        StringBuilder sql = new StringBuilder(
+                "insert into audit_log (action, actor, bill_id, target, occurred_at) values ");
+        Object[] args = new Object[batch.size() * 5];
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEntry entry = batch.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            args[i * 5] = entry.getAction();
+            args[i * 5 + 1] = entry.getActor();
+            args[i * 5 + 2] = entry.getBillId();
+            args[i * 5 + 3] = truncate(entry.getTarget());
+            args[i * 5 + 4] = Timestamp.valueOf(entry.getOccurredAt());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    // Employee email from the OAuth2 login, when the change came from a request
+    public static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return "system";
+        }
+        if (authentication.getPrincipal() instanceof OAuth2User oauth2User
+                && oauth2User.getAttribute("email") != null) {
+            return oauth2User.getAttribute("email").toString();
+        }
+        return authentication.getName();
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 1000 ? value.substring(0, 997) + "..." : value;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.esd.project.Audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded multi-producer, single-consumer ring buffer without locks.
+// Producers claim a sequence with CAS; the single writer thread drains in order.
+public class AuditRingBuffer {
+
+    private final AtomicReferenceArray<AuditEntry> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+
+    public AuditRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    // Returns the entry's sequence, or -1 when the buffer is full
+    public long offer(AuditEntry entry) {
+        while (true) {
+            long sequence = claimed.get();
+            if (sequence - consumed.get() >= capacity) {
+                return -1;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) sequence & mask, entry);
+                return sequence;
+            }
+        }
+    }
+
+    // Called only from the writer thread. Stops at the first slot still being filled.
+    public int drainTo(List<AuditEntry> target, int max) {
+        long sequence = consumed.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) sequence & mask;
+            AuditEntry entry = slots.get(index);
+            if (entry == null) {
+                break;
+            }
+            slots.set(index, null);
+            target.add(entry);
+            sequence++;
+            drained++;
+        }
+        consumed.set(sequence);
+        return drained;
+    }
+
+    // Sequence of the next entry to be drained
+    public long consumedSequence() {
+        return consumed.get();
+    }
+
+    public int size() {
+        return (int) (claimed.get() - consumed.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,197 @@
+package com.esd.project.Cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Reads other nodes' entries from cache_change_log and republishes them as RemoteInvalidation events.
+// Staleness is bounded by cluster.invalidation.poll-interval-ms.
+//
+// Auto-increment ids are assigned before commit, so a lower id can become visible after a higher one.
+// The cursor therefore only moves over contiguous ids; a hole is waited on for gap-timeout-ms
+// (it may be a slow transaction) and skipped after that (it was a rollback).
+//
+// cluster.invalidation.enabled is checked when the application starts, not as a bean condition,
+// because the AOT-built fast-startup jar fixes bean conditions at build time.
+@Component
+public class ChangeLogPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogPoller.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final long CLEANUP_INTERVAL_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterNode node;
+    private final long pollIntervalMs;
+    private final long gapTimeoutMs;
+    private final Duration retention;
+    private final boolean enabled;
+
+    private final Counter received;
+    private final Timer staleness;
+
+    // Ids above the cursor that were already applied
+    private final NavigableSet<Long> seenAboveCursor = new ConcurrentSkipListSet<>();
+    private long cursor;
+    private long gapSince;
+    private long lastCleanup;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public ChangeLogPoller(JdbcTemplate jdbcTemplate,
+                           ApplicationEventPublisher eventPublisher,
+                           ClusterNode node,
+                           MeterRegistry meterRegistry,
+                           @Value("${cluster.invalidation.poll-interval-ms:500}") long pollIntervalMs,
+                           @Value("${cluster.invalidation.gap-timeout-ms:10000}") long gapTimeoutMs,
+                           @Value("${cluster.invalidation.retention-minutes:60}") long retentionMinutes,
+                           @Value("${cluster.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.node = node;
+        this.pollIntervalMs = pollIntervalMs;
+        this.gapTimeoutMs = gapTimeoutMs;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.enabled = enabled;
+
+        this.received = Counter.builder("cluster.invalidation.received").register(meterRegistry);
+        this.staleness = Timer.builder("cluster.invalidation.staleness")
+                .description("Time from the change being logged to this node evicting it")
+                .register(meterRegistry);
+        Gauge.builder("cluster.invalidation.pending", seenAboveCursor, NavigableSet::size)
+                .description("Entries applied while an earlier id is still missing")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        // Caches are filled from the database after startup, so older entries do not matter
+        Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from cache_change_log", Long.class);
+        cursor = max != null ? max : 0;
+
+        worker = new Thread(this::run, "cluster-invalidation-poller");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int fetched = pollOnce();
+                cleanUp();
+                if (fetched == BATCH_SIZE) {
+                    continue;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Cluster invalidation poll failed", ex);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollIntervalMs));
+        }
+    }
+
+    // Returns the number of new rows read
+    public int pollOnce() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Rows that filled a hole since the last poll
+        if (!seenAboveCursor.isEmpty()) {
+            read("select id, origin_node, kind, entity_key, created_at from cache_change_log "
+                    + "where id > ? and id < ? order by id", now, cursor, seenAboveCursor.last());
+        }
+
+        long from = seenAboveCursor.isEmpty() ? cursor : seenAboveCursor.last();
+        int fetched = read("select id, origin_node, kind, entity_key, created_at from cache_change_log "
+                + "where id > ? order by id limit ?", now, from, BATCH_SIZE);
+
+        advanceCursor();
+        return fetched;
+    }
+
+    private int read(String sql, LocalDateTime now, Object... args) {
+        int[] fetched = new int[1];
+        jdbcTemplate.query(sql, rs -> {
+            fetched[0]++;
+            long id = rs.getLong(1);
+            if (!seenAboveCursor.add(id)) {
+                return;
+            }
+            if (node.getId().equals(rs.getString(2))) {
+                // This node already applied its own change after commit
+                return;
+            }
+
+            eventPublisher.publishEvent(new RemoteInvalidation(
+                    InvalidationKind.valueOf(rs.getString(3)), rs.getLong(4)));
+            received.increment();
+
+            Duration lag = Duration.between(rs.getTimestamp(5).toLocalDateTime(), now);
+            staleness.record(lag.isNegative() ? Duration.ZERO : lag);
+        }, args);
+        return fetched[0];
+    }
+
+    private void advanceCursor() {
+        long nowMs = System.currentTimeMillis();
+        while (!seenAboveCursor.isEmpty()) {
+            long lowest = seenAboveCursor.first();
+            if (lowest == cursor + 1) {
+                seenAboveCursor.pollFirst();
+                cursor = lowest;
+                gapSince = 0;
+                continue;
+            }
+
+            if (gapSince == 0) {
+                gapSince = nowMs;
+            }
+            if (nowMs - gapSince < gapTimeoutMs) {
+                return;
+            }
+            // Waited long enough: the missing ids were rolled back
+            cursor = lowest - 1;
+            gapSince = 0;
+        }
+    }
+
+    private void cleanUp() {
+        long nowMs = System.currentTimeMillis();
+        if (nowMs - lastCleanup < CLEANUP_INTERVAL_MS) {
+            return;
+        }
+        lastCleanup = nowMs;
+        jdbcTemplate.update("delete from cache_change_log where created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
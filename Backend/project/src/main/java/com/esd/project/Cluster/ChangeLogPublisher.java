@@ -0,0 +1,85 @@
+package com.esd.project.Cluster;
+
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Records which keys a change touched, inside the changing transaction.
+// Other nodes therefore see the rows exactly when the change itself becomes visible.
+@Component
+public class ChangeLogPublisher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterNode node;
+    private final Counter published;
+    private final boolean enabled;
+
+    public ChangeLogPublisher(JdbcTemplate jdbcTemplate, ClusterNode node, MeterRegistry meterRegistry,
+                              @Value("${cluster.invalidation.enabled:false}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.node = node;
+        this.enabled = enabled;
+        this.published = Counter.builder("cluster.invalidation.published").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<Object[]> keys = keysOf(event);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "insert into cache_change_log (origin_node, kind, entity_key, created_at) values ");
+        Object[] args = new Object[keys.size() * 4];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < keys.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args[i * 4] = node.getId();
+            args[i * 4 + 1] = keys.get(i)[0];
+            args[i * 4 + 2] = keys.get(i)[1];
+            args[i * 4 + 3] = now;
+        }
+        jdbcTemplate.update(sql.toString(), args);
+        published.increment(keys.size());
+    }
+
+    private List<Object[]> keysOf(ChangeEvent event) {
+        List<Object[]> keys = new ArrayList<>();
+        ChangeEventType type = event.getType();
+
+        if (type == ChangeEventType.BILL_UPDATED || type == ChangeEventType.BILL_DELETED) {
+            keys.add(new Object[]{InvalidationKind.BILL.name(), event.getBillId()});
+        } else if (type == ChangeEventType.BILLS_UPDATED) {
+            event.getBillIds().forEach(id -> keys.add(new Object[]{InvalidationKind.BILL.name(), id}));
+        } else if (type == ChangeEventType.ASSIGNMENT_ADDED || type == ChangeEventType.ASSIGNMENT_REMOVED) {
+            if (event.getBillId() != null) {
+                keys.add(new Object[]{InvalidationKind.ASSIGNMENT.name(), event.getBillId()});
+            } else if (event.getStudentIds() != null) {
+                // All bills of these students were removed
+                event.getStudentIds().forEach(id -> keys.add(new Object[]{InvalidationKind.STUDENT.name(), id}));
+            }
+        }
+        if (event.getDomain() != null) {
+            // This node re-read the domain's students for the change; the others re-read theirs
+            jdbcTemplate.queryForList("select domain_id from domain where domain_name = ?", Long.class,
+                    event.getDomain()).forEach(id -> keys.add(new Object[]{InvalidationKind.DOMAIN.name(), id}));
+        }
+        // A new bill has nothing cached anywhere yet
+        return keys;
+    }
+}
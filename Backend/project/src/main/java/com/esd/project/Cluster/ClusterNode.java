@@ -0,0 +1,16 @@
+package com.esd.project.Cluster;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// Identity of this application context; separate contexts in one JVM get separate ids
+@Component
+public class ClusterNode {
+
+    private final String id = UUID.randomUUID().toString();
+
+    public String getId() {
+        return id;
+    }
+}
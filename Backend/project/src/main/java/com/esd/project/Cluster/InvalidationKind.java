@@ -0,0 +1,12 @@
+package com.esd.project.Cluster;
+
+public enum InvalidationKind {
+    // key: bill id; the bill itself changed or was deleted
+    BILL,
+    // key: bill id; the bill's set of students changed
+    ASSIGNMENT,
+    // key: student id; the student's set of bills changed
+    STUDENT,
+    // key: domain id; the domain's students were re-read and may have changed
+    DOMAIN
+}
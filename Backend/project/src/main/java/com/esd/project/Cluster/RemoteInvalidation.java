@@ -0,0 +1,13 @@
+package com.esd.project.Cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Published locally when another node committed a change; in-process caches evict the key
+@Data
+@AllArgsConstructor
+public class RemoteInvalidation {
+
+    private InvalidationKind kind;
+    private Long key;
+}
@@ -0,0 +1,197 @@
+package com.esd.project.Coalescing;
+
+import com.esd.project.Audit.AuditLog;
+import com.esd.project.DTO.Response.StudentBillResponse;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Service.StudentBillsService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Group commit for POST /student-bills/assign-to-roll.
+// With assignment.coalescing.enabled, concurrent calls are queued; a single thread collects them
+// for up to window-micros (or max-batch calls) and stores them in one transaction.
+// Every caller still gets its own response or error. Disabled or shut down, calls go straight to the service.
+@Component
+public class AssignmentCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentCoalescer.class);
+
+    private final StudentBillsService studentBillsService;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final long waitTimeoutMs;
+    private final BlockingQueue<SingleAssignment> queue;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public AssignmentCoalescer(StudentBillsService studentBillsService,
+                               MeterRegistry meterRegistry,
+                               @Value("${assignment.coalescing.enabled:false}") boolean enabled,
+                               @Value("${assignment.coalescing.window-micros:2000}") long windowMicros,
+                               @Value("${assignment.coalescing.max-batch:64}") int maxBatch,
+                               @Value("${assignment.coalescing.queue-capacity:4096}") int queueCapacity,
+                               @Value("${assignment.coalescing.wait-timeout-ms:10000}") long waitTimeoutMs) {
+        this.studentBillsService = studentBillsService;
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatch = maxBatch;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("assignment.coalescing.batch.size")
+                .description("Single assignments stored per transaction")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = new Thread(this::run, "assignment-coalescer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public StudentBillResponse assign(String rollNumber, Long billId) {
+        if (!enabled || worker == null || !running) {
+            return studentBillsService.assignBillToStudent(rollNumber, billId);
+        }
+
+        SingleAssignment assignment = new SingleAssignment(rollNumber, billId, AuditLog.currentActor());
+        if (!queue.offer(assignment)) {
+            // Saturated: do the work on the caller's thread rather than reject it
+            return studentBillsService.assignBillToStudent(rollNumber, billId);
+        }
+
+        try {
+            return await(assignment);
+        } catch (TimeoutException ex) {
+            if (assignment.take()) {
+                // Still queued; no batch will pick it up now
+                throw new BusinessException("Assignment timed out, please retry");
+            }
+        }
+        // Its batch is already running; give the transaction one more wait to finish
+        try {
+            return await(assignment);
+        } catch (TimeoutException ex) {
+            throw stillStoring();
+        }
+    }
+
+    private StudentBillResponse await(SingleAssignment assignment) throws TimeoutException {
+        try {
+            return assignment.getFuture().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            if (assignment.take()) {
+                throw new BusinessException("Assignment was interrupted, please retry");
+            }
+            throw stillStoring();
+        }
+    }
+
+    private static BusinessException stillStoring() {
+        return new BusinessException("Assignment is still being stored, check the student's bills before retrying");
+    }
+
+    private void run() {
+        List<SingleAssignment> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                SingleAssignment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    SingleAssignment next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } catch (Throwable ex) {
+                // Keep the thread alive; the batch's callers are failed below
+                log.error("Coalesced assignment batch failed", ex);
+            } finally {
+                for (SingleAssignment assignment : batch) {
+                    assignment.getFuture().completeExceptionally(
+                            new BusinessException("Assignment was not processed, please retry"));
+                }
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<SingleAssignment> batch) {
+        // Callers that timed out while queued have already been told to retry
+        batch.removeIf(assignment -> !assignment.take());
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        try {
+            studentBillsService.assignCoalesced(batch);
+        } catch (RuntimeException ex) {
+            // The shared transaction rolled back; give every call its own transaction instead
+            for (SingleAssignment assignment : batch) {
+                assignment.setResponse(null);
+                assignment.setError(null);
+                try {
+                    assignment.setResponse(studentBillsService.assignBillToStudent(
+                            assignment.getRollNumber(), assignment.getBillId(), assignment.getActor()));
+                } catch (RuntimeException single) {
+                    assignment.fail(single);
+                }
+            }
+        }
+
+        for (SingleAssignment assignment : batch) {
+            if (assignment.isFailed()) {
+                assignment.getFuture().completeExceptionally(assignment.getError());
+            } else {
+                assignment.getFuture().complete(assignment.getResponse());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.esd.project.Coalescing;
+
+import com.esd.project.DTO.Response.StudentBillResponse;
+import lombok.Data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// One queued assign-to-roll call. The service fills in response or error inside the batch
+// transaction; the caller's future is completed only after that transaction has finished.
+@Data
+public class SingleAssignment {
+
+    private final String rollNumber;
+    private final Long billId;
+    // Recorded at submit time, since the batch runs on the coalescer thread
+    private final String actor;
+    private final CompletableFuture<StudentBillResponse> future = new CompletableFuture<>();
+    // Taken once: by the batch that stores it, or by a caller that gave up waiting before that
+    private final AtomicBoolean taken = new AtomicBoolean();
+
+    private StudentBillResponse response;
+    private RuntimeException error;
+
+    public void fail(RuntimeException error) {
+        this.error = error;
+    }
+
+    public boolean isFailed() {
+        return error != null;
+    }
+
+    public boolean take() {
+        return taken.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,159 @@
+package com.esd.project.Config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationConfig;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.deser.std.StdDeserializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+import tools.jackson.dataformat.cbor.CBORGenerator;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDate;
+
+// Binary alternatives to JSON for the large read endpoints, chosen through the Accept header:
+//   application/cbor, application/x-jackson-smile
+// Only handlers that list these types in `produces` answer in them; everything else,
+// including every request body, stays JSON. JSON is listed first, so it remains the default (also for Accept: */*).
+// Amounts are written as native 8-byte floats. Dates are written as days since 1970-01-01
+// instead of "yyyy-MM-dd" text; in CBOR they carry tag 100 (RFC 8943).
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    public static final String CBOR = "application/cbor";
+    public static final String SMILE = "application/x-jackson-smile";
+
+    private static final int EPOCH_DAYS_TAG = 100;
+
+    private final CBORMapper.Builder cborMapperBuilder;
+    private final JsonMapper jsonMapper;
+
+    public BinaryFormatsConfig(CBORMapper.Builder cborMapperBuilder, JsonMapper jsonMapper) {
+        this.cborMapperBuilder = cborMapperBuilder;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new ProducedOnlyCborConverter(cborMapper(cborMapperBuilder)))
+                .withSmileConverter(new ProducedOnlySmileConverter(smileMapper(jsonMapper)));
+    }
+
+    // Boot's builder, so spring.jackson.* and spring.jackson.cbor.* apply as they do to JSON.
+    // Also used by scripts/FormatBenchmark.java
+    public static CBORMapper cborMapper(CBORMapper.Builder builder) {
+        return builder.addModule(epochDayDates()).build();
+    }
+
+    // Boot has no Smile builder; the features, naming, inclusion and modules are copied from its JSON mapper
+    public static SmileMapper smileMapper(JsonMapper jsonMapper) {
+        SerializationConfig serialization = jsonMapper.serializationConfig();
+        DeserializationConfig deserialization = jsonMapper.deserializationConfig();
+
+        SmileMapper.Builder builder = SmileMapper.builder();
+        for (MapperFeature feature : MapperFeature.values()) {
+            builder.configure(feature, serialization.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values()) {
+            builder.configure(feature, serialization.isEnabled(feature));
+        }
+        for (DeserializationFeature feature : DeserializationFeature.values()) {
+            builder.configure(feature, deserialization.isEnabled(feature));
+        }
+        builder.propertyNamingStrategy(serialization.getPropertyNamingStrategy());
+        builder.changeDefaultPropertyInclusion(inclusion -> serialization.getDefaultPropertyInclusion());
+        return builder.addModules(jsonMapper.registeredModules())
+                .addModule(epochDayDates())
+                .build();
+    }
+
+    private static SimpleModule epochDayDates() {
+        SimpleModule module = new SimpleModule("EpochDayDates");
+        module.addSerializer(LocalDate.class, new EpochDaySerializer());
+        module.addDeserializer(LocalDate.class, new EpochDayDeserializer());
+        return module;
+    }
+
+    // Never reads request bodies. Writes only when the handler's `produces` named the binary type:
+    // without `produces`, Spring asks every converter with no media type which types it could write.
+    private static final class ProducedOnlyCborConverter extends JacksonCborHttpMessageConverter {
+
+        private ProducedOnlyCborConverter(CBORMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        public boolean canRead(ResolvableType type, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return mediaType != null && super.canWrite(clazz, mediaType);
+        }
+    }
+
+    private static final class ProducedOnlySmileConverter extends JacksonSmileHttpMessageConverter {
+
+        private ProducedOnlySmileConverter(SmileMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        public boolean canRead(ResolvableType type, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return mediaType != null && super.canWrite(clazz, mediaType);
+        }
+    }
+
+    private static final class EpochDaySerializer extends StdSerializer<LocalDate> {
+
+        private EpochDaySerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializationContext context) {
+            if (gen instanceof CBORGenerator cbor) {
+                cbor.writeTag(EPOCH_DAYS_TAG);
+            }
+            gen.writeNumber(Math.toIntExact(value.toEpochDay()));
+        }
+    }
+
+    // Accepts day counts and, for hand-written payloads, "yyyy-MM-dd" strings
+    private static final class EpochDayDeserializer extends StdDeserializer<LocalDate> {
+
+        private EpochDayDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser parser, DeserializationContext context) {
+            if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDate.ofEpochDay(parser.getLongValue());
+            }
+            return LocalDate.parse(parser.getValueAsString());
+        }
+    }
+}
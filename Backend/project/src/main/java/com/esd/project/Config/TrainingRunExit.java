@@ -0,0 +1,32 @@
+package com.esd.project.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Ends the AppCDS training run of the fast-startup build (-Dfast-startup.training-run=true).
+// Readiness is published after every ApplicationReadyEvent listener has run, so the archive
+// also holds the classes used by the startup loaders and background workers.
+@Component
+public class TrainingRunExit {
+
+    private final ConfigurableApplicationContext context;
+    private final boolean trainingRun;
+
+    public TrainingRunExit(ConfigurableApplicationContext context,
+                           @Value("${fast-startup.training-run:false}") boolean trainingRun) {
+        this.context = context;
+        this.trainingRun = trainingRun;
+    }
+
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (trainingRun && event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Response.AuditRecordResponse;
+import com.esd.project.Repository.AuditRecordRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/audit")
+public class AuditController {
+
+    private static final int MAX_LIMIT = 500;
+
+    private final AuditRecordRepository auditRecordRepository;
+
+    public AuditController(AuditRecordRepository auditRecordRepository) {
+        this.auditRecordRepository = auditRecordRepository;
+    }
+
+    // MOST RECENT BILLING CHANGES
+    @GetMapping("/recent")
+    public ResponseEntity<List<AuditRecordResponse>> getRecent(@RequestParam(defaultValue = "100") int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(auditRecordRepository.findByOrderByIdDesc(PageRequest.of(0, size)).stream()
+                .map(record -> new AuditRecordResponse(
+                        record.getId(),
+                        record.getAction(),
+                        record.getActor(),
+                        record.getBillId(),
+                        record.getTarget(),
+                        record.getOccurredAt()))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Request.BatchRequest;
+import com.esd.project.DTO.Response.BatchResponse;
+import com.esd.project.Service.BatchService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/batch")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    // RUN SEVERAL BILL / ASSIGNMENT OPERATIONS IN ONE REQUEST
+    @PostMapping
+    public ResponseEntity<BatchResponse> execute(@Valid @RequestBody BatchRequest request) {
+        return ResponseEntity.ok(batchService.execute(request));
+    }
+}
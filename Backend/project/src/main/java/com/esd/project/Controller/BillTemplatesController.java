@@ -0,0 +1,53 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Request.BillTemplateRequest;
+import com.esd.project.DTO.Request.TermGenerationRequest;
+import com.esd.project.DTO.Response.BillTemplateResponse;
+import com.esd.project.DTO.Response.MessageResponse;
+import com.esd.project.DTO.Response.TermGenerationResponse;
+import com.esd.project.Service.BillTemplateService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/bill-templates")
+public class BillTemplatesController {
+
+    private final BillTemplateService billTemplateService;
+
+    public BillTemplatesController(BillTemplateService billTemplateService) {
+        this.billTemplateService = billTemplateService;
+    }
+
+    // CREATE RECURRING BILL TEMPLATE
+    @PostMapping("/add-template")
+    public ResponseEntity<BillTemplateResponse> addTemplate(@Valid @RequestBody BillTemplateRequest request) {
+        return ResponseEntity.status(201).body(billTemplateService.addTemplate(request));
+    }
+
+    // GET ALL TEMPLATES
+    @GetMapping("/show-all-templates")
+    public ResponseEntity<List<BillTemplateResponse>> getAllTemplates() {
+        return ResponseEntity.ok(billTemplateService.getAllTemplates());
+    }
+
+    // STOP GENERATING A TEMPLATE IN FUTURE TERMS
+    @DeleteMapping("/deactivate/{templateId}")
+    public ResponseEntity<MessageResponse> deactivateTemplate(@PathVariable Long templateId) {
+        billTemplateService.deactivateTemplate(templateId);
+        Map<String, Object> data = new HashMap<>();
+        data.put("templateId", templateId);
+        return ResponseEntity.ok(new MessageResponse("Bill template deactivated", data));
+    }
+
+    // GENERATE A TERM'S BILLS AND ASSIGNMENTS
+    @PostMapping("/generate-term")
+    public ResponseEntity<TermGenerationResponse> generateTerm(@Valid @RequestBody TermGenerationRequest request) {
+        return ResponseEntity.status(201).body(billTemplateService.generateTerm(request));
+    }
+}
@@ -1,9 +1,16 @@
 package com.esd.project.Controller;
 
+import com.esd.project.DTO.Request.BillFilterRequest;
 import com.esd.project.DTO.Request.BillRequest;
 import com.esd.project.DTO.Request.BillUpdateRequest;
+import com.esd.project.DTO.Request.BulkBillUpdateRequest;
 import com.esd.project.DTO.Response.BillResponse;
+import com.esd.project.DTO.Response.BillStudentsCompactResponse;
+import com.esd.project.DTO.Response.BillStudentsPageResponse;
+import com.esd.project.DTO.Response.BillStudentsSummaryResponse;
 import com.esd.project.DTO.Response.MessageResponse;
+import com.esd.project.Projection.ProjectedRow;
+import com.esd.project.Projection.ProjectedRows;
 import com.esd.project.Service.BillsService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +20,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.esd.project.Config.BinaryFormatsConfig.CBOR;
+import static com.esd.project.Config.BinaryFormatsConfig.SMILE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
 @RestController
 @RequestMapping("/bills")
 public class BillsController {
@@ -30,17 +41,72 @@ public class BillsController {
     }
 
     // GET ALL BILLS
-    @GetMapping("/show-all-bills")
+    @GetMapping(value = "/show-all-bills", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
     public ResponseEntity<List<BillResponse>> getAllBills() {
         return ResponseEntity.ok(billsService.getAllBills());
     }
 
+    // GET ALL BILLS (ONLY REQUESTED FIELDS)
+    @GetMapping(value = "/show-all-bills", params = "fields", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<ProjectedRows> getAllBills(@RequestParam String fields) {
+        return ResponseEntity.ok(billsService.getAllBills(fields));
+    }
+
+    // FILTER BILLS BY BILL DATE / DEADLINE / AMOUNT RANGES
+    @GetMapping(value = "/filter", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<List<BillResponse>> filterBills(@Valid @ModelAttribute BillFilterRequest filter) {
+        return ResponseEntity.ok(billsService.filterBills(filter));
+    }
+
     // GET BILL BY ID
     @GetMapping("/{billId}")
     public ResponseEntity<BillResponse> getBillById(@PathVariable Long billId) {
         return ResponseEntity.ok(billsService.getBillById(billId));
     }
 
+    // GET BILL BY ID (ONLY REQUESTED FIELDS)
+    @GetMapping(value = "/{billId}", params = "fields")
+    public ResponseEntity<ProjectedRow> getBillById(
+            @PathVariable Long billId,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(billsService.getBillById(billId, fields));
+    }
+
+    // STUDENTS HOLDING A BILL (KEYSET PAGES BY STUDENT ID)
+    @GetMapping(value = "/{billId}/students", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<BillStudentsPageResponse> getStudentsForBill(
+            @PathVariable Long billId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String domain,
+            @RequestParam(defaultValue = "false") boolean overdue
+    ) {
+        return ResponseEntity.ok(billsService.getStudentsForBill(billId, after, limit, domain, overdue));
+    }
+
+    // STUDENTS HOLDING A BILL (PARALLEL ARRAYS)
+    @GetMapping(value = "/{billId}/students", params = "format=compact", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<BillStudentsCompactResponse> getStudentsForBillCompact(
+            @PathVariable Long billId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String domain,
+            @RequestParam(defaultValue = "false") boolean overdue
+    ) {
+        return ResponseEntity.ok(billsService.getStudentsForBillCompact(billId, after, limit, domain, overdue));
+    }
+
+    // NUMBER OF STUDENTS HOLDING A BILL
+    @GetMapping(value = "/{billId}/students", params = "format=summary")
+    public ResponseEntity<BillStudentsSummaryResponse> getStudentsForBillSummary(
+            @PathVariable Long billId,
+            @RequestParam(required = false) String domain,
+            @RequestParam(defaultValue = "false") boolean overdue
+    ) {
+        return ResponseEntity.ok(billsService.getStudentsForBillSummary(billId, domain, overdue));
+    }
+
     // PARTIAL UPDATE BILL
     @PatchMapping("/update-bill-details/{billId}")
     public ResponseEntity<BillResponse> updateBillPartially(
@@ -50,6 +116,15 @@ public class BillsController {
         return ResponseEntity.ok(billsService.updateBillPartially(billId, request));
     }
 
+    // PARTIAL UPDATE OF EVERY BILL MATCHING A FILTER (ONE STATEMENT)
+    @PatchMapping("/update-bills-matching")
+    public ResponseEntity<MessageResponse> updateBillsMatching(@Valid @RequestBody BulkBillUpdateRequest request) {
+        int updated = billsService.updateBillsMatching(request);
+        Map<String, Object> data = new HashMap<>();
+        data.put("updated", updated);
+        return ResponseEntity.ok(new MessageResponse("Bills updated", data));
+    }
+
     // DELETE BILL FROM BOTH TABLES
     @DeleteMapping("/delete-billid/{billId}")
     public ResponseEntity<MessageResponse> deleteBill(@PathVariable Long billId) {
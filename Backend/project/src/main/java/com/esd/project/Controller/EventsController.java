@@ -0,0 +1,23 @@
+package com.esd.project.Controller;
+
+import com.esd.project.Event.ChangeEventBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class EventsController {
+
+    private final ChangeEventBroadcaster broadcaster;
+
+    public EventsController(ChangeEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    // STREAM BILL AND ASSIGNMENT CHANGES
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return broadcaster.subscribe();
+    }
+}
@@ -0,0 +1,54 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Request.BundleAssignmentRequest;
+import com.esd.project.DTO.Request.FeeBundleRequest;
+import com.esd.project.DTO.Response.BundleAssignmentResponse;
+import com.esd.project.DTO.Response.FeeBundleResponse;
+import com.esd.project.DTO.Response.MessageResponse;
+import com.esd.project.Service.FeeBundleService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/fee-bundles")
+public class FeeBundlesController {
+
+    private final FeeBundleService feeBundleService;
+
+    public FeeBundlesController(FeeBundleService feeBundleService) {
+        this.feeBundleService = feeBundleService;
+    }
+
+    // CREATE A NAMED SET OF BILLS
+    @PostMapping("/add-bundle")
+    public ResponseEntity<FeeBundleResponse> addBundle(@Valid @RequestBody FeeBundleRequest request) {
+        return ResponseEntity.status(201).body(feeBundleService.addBundle(request));
+    }
+
+    // GET ALL BUNDLES
+    @GetMapping("/show-all-bundles")
+    public ResponseEntity<List<FeeBundleResponse>> getAllBundles() {
+        return ResponseEntity.ok(feeBundleService.getAllBundles());
+    }
+
+    // DELETE A BUNDLE (ITS BILLS AND ASSIGNMENTS STAY)
+    @DeleteMapping("/delete-bundle/{bundleId}")
+    public ResponseEntity<MessageResponse> deleteBundle(@PathVariable Long bundleId) {
+        feeBundleService.deleteBundle(bundleId);
+        Map<String, Object> data = new HashMap<>();
+        data.put("bundleId", bundleId);
+        return ResponseEntity.ok(new MessageResponse("Fee bundle deleted", data));
+    }
+
+    // ASSIGN EVERY BILL OF A BUNDLE TO SEVERAL DOMAINS
+    @PostMapping("/assign-to-domains/{bundleId}")
+    public ResponseEntity<BundleAssignmentResponse> assignBundle(@PathVariable Long bundleId,
+                                                                 @Valid @RequestBody BundleAssignmentRequest request) {
+        return ResponseEntity.ok(feeBundleService.assignBundle(bundleId, request.getDomains()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Request.PaymentRequest;
+import com.esd.project.DTO.Response.MessageResponse;
+import com.esd.project.DTO.Response.PaymentResponse;
+import com.esd.project.DTO.Response.StatementImportResponse;
+import com.esd.project.DTO.Response.StatementReviewItemResponse;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Service.PaymentService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/payments")
+public class PaymentsController {
+
+    private static final Logger log = LoggerFactory.getLogger(PaymentsController.class);
+
+    private final PaymentService paymentService;
+
+    public PaymentsController(PaymentService paymentService) {
+        this.paymentService = paymentService;
+    }
+
+    // RECORD A PAYMENT FOR A STUDENT BILL
+    @PostMapping("/record/{studentBillId}")
+    public ResponseEntity<PaymentResponse> recordPayment(
+            @PathVariable Long studentBillId,
+            @Valid @RequestBody PaymentRequest request
+    ) {
+        return ResponseEntity.status(201).body(paymentService.recordPayment(studentBillId, request));
+    }
+
+    // IMPORT AND RECONCILE A BANK STATEMENT EXPORT
+    @PostMapping("/import-statement")
+    public ResponseEntity<StatementImportResponse> importStatement(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        if (file.isEmpty()) {
+            throw new BusinessException("Statement file is empty");
+        }
+
+        Path tempFile = Files.createTempFile("statement-", ".csv");
+        try {
+            file.transferTo(tempFile);
+            return ResponseEntity.ok(paymentService.importStatement(tempFile));
+        } finally {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ex) {
+                // The import result stands; the file is only left behind
+                log.warn("Could not delete statement upload {}", tempFile, ex);
+                tempFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    // UNMATCHED STATEMENT LINES
+    @GetMapping("/review-queue")
+    public ResponseEntity<List<StatementReviewItemResponse>> getReviewQueue() {
+        return ResponseEntity.ok(paymentService.getReviewQueue());
+    }
+
+    // MARK A REVIEW ITEM AS HANDLED
+    @PatchMapping("/review-queue/{id}/resolve")
+    public ResponseEntity<MessageResponse> resolveReviewItem(@PathVariable Long id) {
+        paymentService.resolveReviewItem(id);
+        Map<String, Object> data = new HashMap<>();
+        data.put("id", id);
+        return ResponseEntity.ok(new MessageResponse("Review item resolved", data));
+    }
+}
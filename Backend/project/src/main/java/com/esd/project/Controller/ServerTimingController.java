@@ -0,0 +1,35 @@
+package com.esd.project.Controller;
+
+import com.esd.project.DTO.Response.ServerTimingSampleResponse;
+import com.esd.project.Timing.TimingSamples;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/server-timing")
+public class ServerTimingController {
+
+    private final TimingSamples timingSamples;
+    private final boolean enabled;
+
+    public ServerTimingController(TimingSamples timingSamples,
+                                  @Value("${server-timing.enabled:false}") boolean enabled) {
+        this.timingSamples = timingSamples;
+        this.enabled = enabled;
+    }
+
+    // SLOWEST RECENTLY SAMPLED REQUESTS
+    @GetMapping("/slowest")
+    public ResponseEntity<List<ServerTimingSampleResponse>> getSlowest(@RequestParam(defaultValue = "20") int limit) {
+        if (!enabled) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(timingSamples.slowest(Math.max(1, Math.min(limit, 200))));
+    }
+}
@@ -1,23 +1,49 @@
 package com.esd.project.Controller;
 
+import com.esd.project.Coalescing.AssignmentCoalescer;
+import com.esd.project.DTO.Request.RollNumbersRequest;
+import com.esd.project.DTO.Response.AssignmentCompactResponse;
+import com.esd.project.DTO.Response.AssignmentSummaryResponse;
+import com.esd.project.DTO.Response.BillTransferResponse;
+import com.esd.project.DTO.Response.DomainCoverageResponse;
 import com.esd.project.DTO.Response.MessageResponse;
 import com.esd.project.DTO.Response.StudentBillResponse;
+import com.esd.project.Entity.Domain;
+import com.esd.project.Projection.ProjectedRows;
+import com.esd.project.Service.FeeStatementService;
 import com.esd.project.Service.StudentBillsService;
+import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.esd.project.Config.BinaryFormatsConfig.CBOR;
+import static com.esd.project.Config.BinaryFormatsConfig.SMILE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
 @RestController
 @RequestMapping("/student-bills")
 public class StudentBillsController {
 
     private final StudentBillsService studentBillsService;
+    private final FeeStatementService feeStatementService;
+    private final AssignmentCoalescer assignmentCoalescer;
 
-    public StudentBillsController(StudentBillsService studentBillsService) {
+    public StudentBillsController(StudentBillsService studentBillsService,
+                                  FeeStatementService feeStatementService,
+                                  AssignmentCoalescer assignmentCoalescer) {
         this.studentBillsService = studentBillsService;
+        this.feeStatementService = feeStatementService;
+        this.assignmentCoalescer = assignmentCoalescer;
     }
 
     // ASSIGN BILL TO A SINGLE STUDENT
@@ -27,7 +53,7 @@ public class StudentBillsController {
             @PathVariable Long billId
     ) {
         return ResponseEntity.status(201)
-                .body(studentBillsService.assignBillToStudent(rollNumber, billId));
+                .body(assignmentCoalescer.assign(rollNumber, billId));
     }
 
     // ASSIGN BILL TO A DOMAIN
@@ -40,10 +66,86 @@ public class StudentBillsController {
                 .body(studentBillsService.assignBillToDomain(domain, billId));
     }
 
+    // ASSIGN BILL TO A DOMAIN (BILL ONCE, STUDENTS AS PARALLEL ARRAYS)
+    @PostMapping(value = "/assign-to-domain/{domain}/{billId}", params = "format=compact")
+    public ResponseEntity<AssignmentCompactResponse> assignBillToDomainCompact(
+            @PathVariable String domain,
+            @PathVariable Long billId
+    ) {
+        return ResponseEntity.status(201)
+                .body(studentBillsService.assignBillToDomainCompact(domain, billId));
+    }
+
+    // ASSIGN BILL TO A DOMAIN (COUNTS ONLY)
+    @PostMapping(value = "/assign-to-domain/{domain}/{billId}", params = "format=summary")
+    public ResponseEntity<AssignmentSummaryResponse> assignBillToDomainSummary(
+            @PathVariable String domain,
+            @PathVariable Long billId
+    ) {
+        return ResponseEntity.status(201)
+                .body(studentBillsService.assignBillToDomainSummary(domain, billId));
+    }
+
+    // ASSIGN BILL TO SEVERAL STUDENTS
+    @PostMapping("/assign-to-rolls/{billId}")
+    public ResponseEntity<List<StudentBillResponse>> assignBillToStudents(
+            @PathVariable Long billId,
+            @Valid @RequestBody RollNumbersRequest request
+    ) {
+        return ResponseEntity.status(201)
+                .body(studentBillsService.assignBillToStudents(request.getRollNumbers(), billId));
+    }
+
+    // ASSIGN BILL TO SEVERAL STUDENTS (BILL ONCE, STUDENTS AS PARALLEL ARRAYS)
+    @PostMapping(value = "/assign-to-rolls/{billId}", params = "format=compact")
+    public ResponseEntity<AssignmentCompactResponse> assignBillToStudentsCompact(
+            @PathVariable Long billId,
+            @Valid @RequestBody RollNumbersRequest request
+    ) {
+        return ResponseEntity.status(201)
+                .body(studentBillsService.assignBillToStudentsCompact(request.getRollNumbers(), billId));
+    }
+
+    // ASSIGN BILL TO SEVERAL STUDENTS (COUNTS ONLY)
+    @PostMapping(value = "/assign-to-rolls/{billId}", params = "format=summary")
+    public ResponseEntity<AssignmentSummaryResponse> assignBillToStudentsSummary(
+            @PathVariable Long billId,
+            @Valid @RequestBody RollNumbersRequest request
+    ) {
+        return ResponseEntity.status(201)
+                .body(studentBillsService.assignBillToStudentsSummary(request.getRollNumbers(), billId));
+    }
+
     // GET ALL BILLS FOR STUDENT
-    @GetMapping("/all-bills-of-roll/{rollNumber}")
-    public ResponseEntity<List<StudentBillResponse>> getBillsByRoll(@PathVariable String rollNumber) {
-        return ResponseEntity.ok(studentBillsService.getBillsByRollNumber(rollNumber));
+    // Answers 304 Not Modified when If-None-Match still matches the student's version
+    @GetMapping(value = "/all-bills-of-roll/{rollNumber}", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<List<StudentBillResponse>> getBillsByRoll(
+            @PathVariable String rollNumber,
+            WebRequest webRequest
+    ) {
+        String etag = studentBillsService.getBillsEtag(rollNumber);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        // JSON and the binary formats share the version, so caches must keep them apart
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(studentBillsService.getBillsByRollNumber(rollNumber));
+    }
+
+    // GET ALL BILLS FOR STUDENT (ONLY REQUESTED FIELDS)
+    @GetMapping(value = "/all-bills-of-roll/{rollNumber}", params = "fields", produces = {APPLICATION_JSON_VALUE, CBOR, SMILE})
+    public ResponseEntity<ProjectedRows> getBillsByRoll(
+            @PathVariable String rollNumber,
+            @RequestParam String fields
+    ) {
+        return ResponseEntity.ok(studentBillsService.getBillsByRollNumber(rollNumber, fields));
     }
 
     // DELETE ALL BILLS FOR STUDENT
@@ -67,4 +169,57 @@ public class StudentBillsController {
         data.put("billId", billId);
         return ResponseEntity.ok(new MessageResponse("Deleted bill for student", data));
     }
+
+    // REMOVE A BILL FROM ALL STUDENTS IN A DOMAIN
+    @DeleteMapping("/domain/{domain}/bill/{billId}")
+    public ResponseEntity<MessageResponse> unassignBillFromDomain(
+            @PathVariable String domain,
+            @PathVariable Long billId
+    ) {
+        int removed = studentBillsService.unassignBillFromDomain(domain, billId);
+        Map<String, Object> data = new HashMap<>();
+        data.put("domain", domain);
+        data.put("billId", billId);
+        data.put("removed", removed);
+        return ResponseEntity.ok(new MessageResponse("Removed bill from domain", data));
+    }
+
+    // MOVE A DOMAIN'S ASSIGNMENTS FROM ONE BILL TO ANOTHER
+    @PostMapping("/domain/{domain}/transfer/{fromBillId}/{toBillId}")
+    public ResponseEntity<MessageResponse> transferBillInDomain(
+            @PathVariable String domain,
+            @PathVariable Long fromBillId,
+            @PathVariable Long toBillId
+    ) {
+        BillTransferResponse result = studentBillsService.transferBillInDomain(domain, fromBillId, toBillId);
+        Map<String, Object> data = new HashMap<>();
+        data.put("domain", domain);
+        data.put("fromBillId", fromBillId);
+        data.put("toBillId", toBillId);
+        data.put("transferred", result.getTransferred());
+        data.put("merged", result.getMerged());
+        data.put("skipped", result.getSkipped());
+        return ResponseEntity.ok(new MessageResponse("Transferred domain assignments to new bill", data));
+    }
+
+    // HOW MANY STUDENTS OF A DOMAIN HOLD A BILL (PREVIEW OF ASSIGN-TO-DOMAIN)
+    @GetMapping("/domain/{domain}/bill/{billId}/coverage")
+    public ResponseEntity<DomainCoverageResponse> getDomainCoverage(
+            @PathVariable String domain,
+            @PathVariable Long billId
+    ) {
+        return ResponseEntity.ok(studentBillsService.getDomainCoverage(domain, billId));
+    }
+
+    // DOWNLOAD FEE STATEMENTS OF ALL STUDENTS IN A DOMAIN AS A ZIP
+    @GetMapping(value = "/statements/{domain}", produces = "application/zip")
+    public ResponseEntity<StreamingResponseBody> downloadDomainStatements(@PathVariable String domain) {
+        Domain resolved = feeStatementService.getDomain(domain);
+        StreamingResponseBody body = out -> feeStatementService.writeDomainStatements(resolved, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"fee-statements-" + resolved.getDomainId() + ".zip\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
 }
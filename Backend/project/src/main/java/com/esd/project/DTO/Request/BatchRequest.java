@@ -0,0 +1,63 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequest {
+
+    public enum Mode {
+        ALL_OR_NOTHING,
+        CONTINUE_ON_ERROR
+    }
+
+    public enum OperationType {
+        ADD_BILL,
+        UPDATE_BILL,
+        DELETE_BILL,
+        ASSIGN_TO_ROLL,
+        ASSIGN_TO_DOMAIN,
+        UNASSIGN_FROM_ROLL,
+        UNASSIGN_ALL_FROM_ROLL,
+        UNASSIGN_FROM_DOMAIN
+    }
+
+    private Mode mode = Mode.ALL_OR_NOTHING;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 500, message = "A batch can hold at most 500 operations")
+    private List<@Valid @NotNull Operation> operations;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "Operation type is required")
+        private OperationType op;
+
+        private Long billId;
+
+        // Index of an earlier ADD_BILL operation whose new bill this operation targets
+        private Integer billRef;
+
+        private String rollNumber;
+
+        private String domain;
+
+        // Body for ADD_BILL
+        private BillRequest bill;
+
+        // Body for UPDATE_BILL
+        private BillUpdateRequest update;
+    }
+}
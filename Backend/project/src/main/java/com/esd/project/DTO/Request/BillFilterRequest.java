@@ -0,0 +1,52 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+// Query parameters of GET /bills/filter; every bound is optional and inclusive
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillFilterRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate billDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate billDateTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate deadlineTo;
+
+    // Deadline between today and today + N days
+    @Min(value = 0, message = "dueWithinDays cannot be negative")
+    private Integer dueWithinDays;
+
+    @PositiveOrZero(message = "minAmount cannot be negative")
+    private Double minAmount;
+
+    @PositiveOrZero(message = "maxAmount cannot be negative")
+    private Double maxAmount;
+
+    @Pattern(regexp = "billId|billDate|deadline|amount|description",
+            message = "sortBy must be one of billId, billDate, deadline, amount, description")
+    private String sortBy = "deadline";
+
+    @Pattern(regexp = "(?i)asc|desc", message = "direction must be asc or desc")
+    private String direction = "asc";
+
+    @Min(value = 1, message = "limit must be at least 1")
+    @Max(value = 1000, message = "limit cannot exceed 1000")
+    private Integer limit = 200;
+}
@@ -0,0 +1,36 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillTemplateRequest {
+
+    @NotBlank(message = "Description is required")
+    private String description;
+
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private Double amount;
+
+    @NotNull(message = "Bill date offset is required")
+    @PositiveOrZero(message = "Bill date offset cannot be negative")
+    private Integer billDateOffsetDays;
+
+    @NotNull(message = "Deadline offset is required")
+    @PositiveOrZero(message = "Deadline offset cannot be negative")
+    private Integer deadlineOffsetDays;
+
+    @NotEmpty(message = "At least one domain is required")
+    private List<@NotBlank(message = "Domain name cannot be blank") String> domains;
+}
@@ -0,0 +1,31 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Bills matching every given criterion receive the same partial update; at least one criterion is required
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBillUpdateRequest {
+
+    @Size(max = 10000, message = "At most 10000 bill IDs per request")
+    private List<@NotNull(message = "Bill ID cannot be null") Long> billIds;
+
+    // Inclusive
+    private LocalDate billDateFrom;
+    private LocalDate billDateTo;
+
+    private String descriptionPrefix;
+
+    @NotNull(message = "Update is required")
+    @Valid
+    private BillUpdateRequest update;
+}
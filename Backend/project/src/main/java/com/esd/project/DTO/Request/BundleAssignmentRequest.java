@@ -0,0 +1,20 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BundleAssignmentRequest {
+
+    @NotEmpty(message = "At least one domain is required")
+    @Size(max = 100, message = "At most 100 domains per request")
+    private List<@NotBlank(message = "Domain name cannot be blank") String> domains;
+}
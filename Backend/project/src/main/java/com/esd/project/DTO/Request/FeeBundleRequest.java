@@ -0,0 +1,24 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeBundleRequest {
+
+    @NotBlank(message = "Bundle name is required")
+    private String name;
+
+    @NotEmpty(message = "At least one bill is required")
+    @Size(max = 200, message = "At most 200 bills per bundle")
+    private List<@NotNull(message = "Bill ID cannot be null") Long> billIds;
+}
@@ -0,0 +1,20 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollNumbersRequest {
+
+    @NotEmpty(message = "At least one roll number is required")
+    @Size(max = 10000, message = "At most 10000 roll numbers per request")
+    private List<@NotBlank(message = "Roll number cannot be blank") String> rollNumbers;
+}
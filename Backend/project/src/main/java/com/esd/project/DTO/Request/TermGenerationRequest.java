@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TermGenerationRequest {
+
+    @NotBlank(message = "Term is required")
+    private String term;
+
+    @NotNull(message = "Term start date is required")
+    private LocalDate termStart;
+}
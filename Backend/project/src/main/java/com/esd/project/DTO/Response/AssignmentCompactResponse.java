@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// format=compact: the bill once, then one entry per new assignment in parallel arrays
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentCompactResponse {
+
+    private BillResponse bill;
+    private Integer count;
+    private List<Long> ids;
+    private List<String> rollNumbers;
+    private List<String> studentNames;
+    private List<String> studentEmails;
+}
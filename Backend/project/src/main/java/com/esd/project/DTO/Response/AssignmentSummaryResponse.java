@@ -0,0 +1,17 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// format=summary: counts only
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentSummaryResponse {
+
+    private Long billId;
+    private Integer requested;
+    private Integer assigned;
+    private Integer alreadyAssigned;
+}
@@ -0,0 +1,20 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecordResponse {
+
+    private Long id;
+    private String action;
+    private String actor;
+    private Long billId;
+    private String target;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.esd.project.DTO.Response;
+
+import com.esd.project.DTO.Request.BatchRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+
+    private BatchRequest.Mode mode;
+    private Integer succeeded;
+    private Integer failed;
+    private List<OperationResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OperationResult {
+        private Integer index;
+        private BatchRequest.OperationType op;
+        // OK, ERROR, ROLLED_BACK or SKIPPED
+        private String status;
+        private Integer httpStatus;
+        private Object result;
+        private String error;
+    }
+}
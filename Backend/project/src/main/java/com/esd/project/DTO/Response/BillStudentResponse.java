@@ -0,0 +1,16 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillStudentResponse {
+
+    private Long studentBillId;
+    private String rollNumber;
+    private String studentName;
+    private String studentEmail;
+}
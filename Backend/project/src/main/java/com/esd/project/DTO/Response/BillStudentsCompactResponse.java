@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// format=compact page of GET /bills/{billId}/students as parallel arrays
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillStudentsCompactResponse {
+
+    private Long billId;
+    private List<Long> studentBillIds;
+    private List<String> rollNumbers;
+    private List<String> studentNames;
+    private List<String> studentEmails;
+    private Long nextAfter;
+}
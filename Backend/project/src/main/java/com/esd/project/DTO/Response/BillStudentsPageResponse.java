@@ -0,0 +1,18 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillStudentsPageResponse {
+
+    private Long billId;
+    private List<BillStudentResponse> students;
+    // Pass as "after" to get the next page; null on the last page
+    private Long nextAfter;
+}
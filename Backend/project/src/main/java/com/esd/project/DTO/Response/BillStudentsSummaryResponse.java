@@ -0,0 +1,17 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// format=summary of GET /bills/{billId}/students: how many students match the filters
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillStudentsSummaryResponse {
+
+    private Long billId;
+    private String domain;
+    private Boolean overdue;
+    private Long students;
+}
@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillTemplateResponse {
+
+    private Long templateId;
+    private String description;
+    private Double amount;
+    private Integer billDateOffsetDays;
+    private Integer deadlineOffsetDays;
+    private List<String> domains;
+    private Boolean active;
+}
@@ -0,0 +1,18 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// transferred: rows moved to the target bill
+// merged: source rows dropped because the student already held the target bill
+// skipped: source rows kept for such students because payments were recorded against them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BillTransferResponse {
+
+    private Integer transferred;
+    private Integer merged;
+    private Integer skipped;
+}
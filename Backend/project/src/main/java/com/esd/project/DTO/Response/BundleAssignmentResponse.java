@@ -0,0 +1,33 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BundleAssignmentResponse {
+
+    private Long bundleId;
+    private String name;
+    private Integer students;
+    private Integer totalAssigned;
+    private Integer totalAlreadyAssigned;
+    // One entry per bill and domain
+    private List<Entry> entries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private Long billId;
+        private String description;
+        private String domain;
+        private Integer students;
+        private Integer assigned;
+        private Integer alreadyAssigned;
+    }
+}
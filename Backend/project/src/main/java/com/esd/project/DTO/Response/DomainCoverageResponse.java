@@ -0,0 +1,17 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainCoverageResponse {
+
+    private String domain;
+    private Long billId;
+    private Integer totalStudents;
+    private Integer assigned;
+    private Integer unassigned;
+}
@@ -0,0 +1,17 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeBundleResponse {
+
+    private Long bundleId;
+    private String name;
+    private List<BillResponse> bills;
+}
@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentResponse {
+
+    private Long paymentId;
+    private Long studentBillId;
+    private String rollNumber;
+    private Long billId;
+    private Double amount;
+    private LocalDate paidOn;
+    private String reference;
+}
@@ -0,0 +1,21 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerTimingSampleResponse {
+
+    private String method;
+    private String path;
+    private Integer status;
+    private Double totalMs;
+    private Map<String, Double> phasesMs;
+    private LocalDateTime at;
+}
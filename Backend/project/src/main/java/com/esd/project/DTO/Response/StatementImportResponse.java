@@ -0,0 +1,18 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementImportResponse {
+
+    private Long lines;
+    private Long matched;
+    private Long recorded;
+    private Long alreadyRecorded;
+    private Long sentToReview;
+    private Long elapsedMs;
+}
@@ -0,0 +1,19 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementReviewItemResponse {
+
+    private Long id;
+    private Long lineNumber;
+    private String rawLine;
+    private String reason;
+    private LocalDateTime importedAt;
+}
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +18,7 @@ public class StudentBillResponse {
     private Long billId;
     private String billDescription;
     private Double billAmount;
-    private String billDate;
-    private String deadline;
+    private LocalDate billDate;
+    private LocalDate deadline;
 }
 
@@ -0,0 +1,28 @@
+package com.esd.project.DTO.Response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TermGenerationResponse {
+
+    private String term;
+    private List<GeneratedBill> generated;
+    private List<Long> skippedTemplateIds;
+    private Integer totalAssignments;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GeneratedBill {
+        private Long templateId;
+        private Long billId;
+        private String description;
+        private Integer assignments;
+    }
+}
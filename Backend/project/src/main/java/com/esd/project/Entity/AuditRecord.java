@@ -0,0 +1,32 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Written in batches by AuditLog; mapped here for the schema and for reads
+@Entity
+@Table(name = "audit_log")
+@Data
+public class AuditRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String action;
+
+    @Column(nullable = false)
+    private String actor;
+
+    @Column(name = "bill_id")
+    private Long billId;
+
+    @Column(length = 1000)
+    private String target;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,38 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "bill_templates")
+@Data
+public class BillTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long templateId;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    // Schedule relative to the term start date
+    @Column(name = "bill_date_offset_days", nullable = false)
+    private Integer billDateOffsetDays;
+
+    @Column(name = "deadline_offset_days", nullable = false)
+    private Integer deadlineOffsetDays;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "bill_template_domains", joinColumns = @JoinColumn(name = "template_id"))
+    @Column(name = "domain_name", nullable = false)
+    private List<String> domainNames = new ArrayList<>();
+
+    @Column(nullable = false)
+    private Boolean active = true;
+}
@@ -0,0 +1,32 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// One row per template and term, so a term is generated at most once
+@Entity
+@Table(name = "bill_template_runs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_template_run_term", columnNames = {"template_id", "term"}))
+@Data
+public class BillTemplateRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false)
+    private BillTemplate template;
+
+    @Column(nullable = false)
+    private String term;
+
+    // Plain column, the generated bill may later be deleted
+    @Column(name = "bill_id", nullable = false)
+    private Long billId;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+}
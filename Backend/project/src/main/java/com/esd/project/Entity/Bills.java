@@ -7,7 +7,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills",
+        indexes = {
+                @Index(name = "idx_bills_deadline_amount", columnList = "deadline, amount"),
+                @Index(name = "idx_bills_bill_date_amount", columnList = "bill_date, amount")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,30 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Written by ChangeLogPublisher and read by ChangeLogPoller with plain SQL; mapped here for the schema
+@Entity
+@Table(name = "cache_change_log",
+        indexes = @Index(name = "idx_cache_change_log_created", columnList = "created_at"))
+@Data
+public class CacheChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+
+    @Column(nullable = false, length = 16)
+    private String kind;
+
+    @Column(name = "entity_key", nullable = false)
+    private Long entityKey;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A named set of bills (a term's fee structure) that is assigned to domains in one operation
+@Entity
+@Table(name = "fee_bundles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_fee_bundles_name", columnNames = "name"))
+@Data
+public class FeeBundle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bundleId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @ManyToMany(fetch = FetchType.EAGER)
+    @JoinTable(name = "fee_bundle_bills",
+            joinColumns = @JoinColumn(name = "bundle_id"),
+            inverseJoinColumns = @JoinColumn(name = "bill_id"))
+    @OrderBy("billId")
+    private List<Bills> bills = new ArrayList<>();
+}
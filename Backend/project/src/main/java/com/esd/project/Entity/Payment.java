@@ -0,0 +1,34 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "payments")
+@Data
+public class Payment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long paymentId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_bill_id", nullable = false)
+    private StudentBills studentBill;
+
+    @Column(nullable = false)
+    private Double amount;
+
+    @Column(name = "paid_on", nullable = false)
+    private LocalDate paidOn;
+
+    // Bank reference, unique so re-importing a statement cannot double count
+    @Column(nullable = false, unique = true)
+    private String reference;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
@@ -0,0 +1,32 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// A statement line that could not be matched to a student bill
+@Entity
+@Table(name = "statement_review_queue")
+@Data
+public class StatementReviewItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    @Column(name = "raw_line", nullable = false, length = 1000)
+    private String rawLine;
+
+    @Column(nullable = false)
+    private String reason;
+
+    @Column(name = "imported_at", nullable = false)
+    private LocalDateTime importedAt;
+
+    @Column(nullable = false)
+    private Boolean resolved = false;
+}
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "student")
+@Table(name = "student",
+        indexes = @Index(name = "idx_student_domain_roll", columnList = "domain, roll_number"))
 @Data
 public class Student {
 
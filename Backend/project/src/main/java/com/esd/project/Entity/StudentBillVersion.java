@@ -0,0 +1,18 @@
+package com.esd.project.Entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+// Change counter of each student's bill list; bumped by StudentVersionRepository with plain SQL
+@Entity
+@Table(name = "student_bill_versions")
+@Data
+public class StudentBillVersion {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import lombok.Data;
 
 @Entity
-@Table(name = "student_bills")
+@Table(name = "student_bills",
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_bills_student_bill",
+                columnNames = {"student_id", "bill_id"}),
+        indexes = @Index(name = "idx_student_bills_bill_student", columnList = "bill_id, student_id"))
 @Data
 public class StudentBills {
 
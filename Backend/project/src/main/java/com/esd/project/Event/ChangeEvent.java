@@ -0,0 +1,55 @@
+package com.esd.project.Event;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Compact description of a committed change, pushed to /events subscribers.
+// Domain-wide changes carry the domain name instead of every roll number.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+
+    private ChangeEventType type;
+    private Long billId;
+    // Several bills changed by one set-based statement
+    private List<Long> billIds;
+    private List<String> rollNumbers;
+    private String domain;
+
+    // Only for in-process listeners, never sent to clients
+    @JsonIgnore
+    private List<Long> studentIds;
+
+    // Who made the change, when it was not made on the request thread
+    @JsonIgnore
+    private String actor;
+
+    public static ChangeEvent bill(ChangeEventType type, Long billId) {
+        return new ChangeEvent(type, billId, null, null, null, null, null);
+    }
+
+    public static ChangeEvent bills(ChangeEventType type, List<Long> billIds) {
+        return new ChangeEvent(type, null, billIds, null, null, null, null);
+    }
+
+    public static ChangeEvent student(ChangeEventType type, Long billId, String rollNumber, Long studentId) {
+        return new ChangeEvent(type, billId, null, List.of(rollNumber), null,
+                studentId != null ? List.of(studentId) : null, null);
+    }
+
+    public static ChangeEvent students(ChangeEventType type, Long billId, List<String> rollNumbers,
+                                       List<Long> studentIds) {
+        return new ChangeEvent(type, billId, null, rollNumbers, null, studentIds, null);
+    }
+
+    public static ChangeEvent domain(ChangeEventType type, Long billId, String domain, List<Long> studentIds) {
+        return new ChangeEvent(type, billId, null, null, domain, studentIds, null);
+    }
+}
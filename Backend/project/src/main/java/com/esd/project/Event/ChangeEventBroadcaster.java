@@ -0,0 +1,156 @@
+package com.esd.project.Event;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class ChangeEventBroadcaster {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_SECONDS = 25;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    // Senders block on slow clients, so they get their own small pool
+    private final ExecutorService senders = Executors.newFixedThreadPool(4, daemon("sse-sender"));
+    private final ScheduledExecutorService heartbeat =
+            Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+
+    public ChangeEventBroadcaster() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // Fired only once the surrounding transaction has committed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+            if (subscriber.draining.compareAndSet(false, true)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void drain(Subscriber subscriber) {
+        boolean released = false;
+        try {
+            while (true) {
+                long dropped = subscriber.dropped.getAndSet(0);
+                if (dropped > 0) {
+                    // Client missed events and should reload its lists once
+                    subscriber.emitter.send(SseEmitter.event()
+                            .name("resync")
+                            .data(Map.of("dropped", dropped)));
+                }
+
+                ChangeEvent event = subscriber.queue.poll();
+                if (event == null) {
+                    subscriber.draining.set(false);
+                    // Re-check in case an offer raced with the flag reset
+                    if ((subscriber.queue.isEmpty() && subscriber.dropped.get() == 0)
+                            || !subscriber.draining.compareAndSet(false, true)) {
+                        released = true;
+                        return;
+                    }
+                    continue;
+                }
+
+                subscriber.emitter.send(SseEmitter.event()
+                        .name("change")
+                        .data(event));
+            }
+        } catch (IOException | RuntimeException ex) {
+            // Also serialization failures, which would otherwise leave the flag set and the client silent
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        } finally {
+            if (!released) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.draining.get()) {
+                continue;
+            }
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | RuntimeException ex) {
+                // An exception escaping here would cancel all future heartbeats
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<ChangeEvent> queue = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // Drop the oldest event when the client cannot keep up
+        private void offer(ChangeEvent event) {
+            while (!queue.offer(event)) {
+                if (queue.poll() != null) {
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+}
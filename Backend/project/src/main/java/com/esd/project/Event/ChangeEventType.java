@@ -0,0 +1,10 @@
+package com.esd.project.Event;
+
+public enum ChangeEventType {
+    BILL_ADDED,
+    BILL_UPDATED,
+    BILLS_UPDATED,
+    BILL_DELETED,
+    ASSIGNMENT_ADDED,
+    ASSIGNMENT_REMOVED
+}
@@ -0,0 +1,277 @@
+package com.esd.project.Index;
+
+import com.esd.project.Cluster.RemoteInvalidation;
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
+import jakarta.annotation.PreDestroy;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory view of student_bills and student.domain as compressed bitmaps of student ids.
+// Loaded once at startup and kept current from committed ChangeEvents.
+// Student rows also change outside this application, so domain membership is re-read
+// every assignment-index.domain-refresh-ms; domain counts are at most that stale.
+@Component
+public class AssignmentIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AssignmentIndex.class);
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long domainRefreshMs;
+
+    private final Map<Long, RoaringBitmap> studentsByBill = new HashMap<>();
+    private final Map<Long, RoaringBitmap> studentsByDomain = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Non-null while load() reads its snapshot; guarded by lock
+    private List<Runnable> pendingDuringLoad;
+    private volatile boolean loaded;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public AssignmentIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${assignment-index.domain-refresh-ms:30000}") long domainRefreshMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.domainRefreshMs = domainRefreshMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        // Changes committed while the snapshot is read are kept and re-applied to it before it is published
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, RoaringBitmap> bills = new HashMap<>();
+        Map<Long, RoaringBitmap> domains;
+        try {
+            jdbcTemplate.query("select student_id, bill_id from student_bills", rs -> {
+                bills.computeIfAbsent(rs.getLong(2), id -> new RoaringBitmap()).add(toInt(rs.getLong(1)));
+            });
+            domains = readDomains();
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+        bills.values().forEach(RoaringBitmap::runOptimize);
+
+        lock.writeLock().lock();
+        try {
+            studentsByBill.clear();
+            studentsByBill.putAll(bills);
+            studentsByDomain.clear();
+            studentsByDomain.putAll(domains);
+            pendingDuringLoad.forEach(Runnable::run);
+            pendingDuringLoad = null;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (worker == null) {
+            worker = new Thread(this::run, "assignment-index-domains");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(domainRefreshMs));
+            if (!running) {
+                return;
+            }
+            try {
+                Map<Long, RoaringBitmap> domains = readDomains();
+                mutate(() -> {
+                    studentsByDomain.clear();
+                    studentsByDomain.putAll(domains);
+                });
+            } catch (RuntimeException ex) {
+                log.warn("Domain membership refresh failed", ex);
+            }
+        }
+    }
+
+    private Map<Long, RoaringBitmap> readDomains() {
+        Map<Long, RoaringBitmap> domains = new HashMap<>();
+        jdbcTemplate.query("select student_id, domain from student", rs -> {
+            domains.computeIfAbsent(rs.getLong(2), id -> new RoaringBitmap()).add(toInt(rs.getLong(1)));
+        });
+        domains.values().forEach(RoaringBitmap::runOptimize);
+        return domains;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int countStudentsInDomain(Long domainId) {
+        lock.readLock().lock();
+        try {
+            return studentsByDomain.getOrDefault(domainId, EMPTY).getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countAssignedInDomain(Long domainId, Long billId) {
+        lock.readLock().lock();
+        try {
+            return RoaringBitmap.andCardinality(
+                    studentsByDomain.getOrDefault(domainId, EMPTY),
+                    studentsByBill.getOrDefault(billId, EMPTY));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replace a domain's membership with a list just read from the database
+    public void refreshDomain(Long domainId, Collection<Long> studentIds) {
+        RoaringBitmap members = new RoaringBitmap();
+        studentIds.forEach(id -> members.add(toInt(id)));
+        members.runOptimize();
+
+        mutate(() -> studentsByDomain.put(domainId, members));
+    }
+
+    // Re-read a domain's membership; student rows change outside this application
+    public void reloadDomain(Long domainId) {
+        refreshDomain(domainId, jdbcTemplate.queryForList(
+                "select student_id from student where domain = ?", Long.class, domainId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (event.getType() == ChangeEventType.BILL_DELETED) {
+            removeBill(event.getBillId());
+            return;
+        }
+        if (event.getType() != ChangeEventType.ASSIGNMENT_ADDED
+                && event.getType() != ChangeEventType.ASSIGNMENT_REMOVED) {
+            return;
+        }
+
+        // Set-based statements do not report which students they touched
+        if (event.getStudentIds() == null) {
+            reloadBill(event.getBillId());
+            return;
+        }
+
+        boolean added = event.getType() == ChangeEventType.ASSIGNMENT_ADDED;
+
+        mutate(() -> {
+            if (event.getBillId() == null) {
+                // All bills of the students were removed
+                for (RoaringBitmap students : studentsByBill.values()) {
+                    event.getStudentIds().forEach(id -> students.remove(toInt(id)));
+                }
+                return;
+            }
+
+            RoaringBitmap students = studentsByBill.computeIfAbsent(event.getBillId(), id -> new RoaringBitmap());
+            for (Long studentId : event.getStudentIds()) {
+                if (added) {
+                    students.add(toInt(studentId));
+                } else {
+                    students.remove(toInt(studentId));
+                }
+            }
+        });
+    }
+
+    // Another node changed assignments or saw new domain members; re-read only the affected key
+    @EventListener
+    public void onRemoteInvalidation(RemoteInvalidation invalidation) {
+        switch (invalidation.getKind()) {
+            case BILL, ASSIGNMENT -> reloadBill(invalidation.getKey());
+            case STUDENT -> reloadStudent(invalidation.getKey());
+            case DOMAIN -> reloadDomain(invalidation.getKey());
+        }
+    }
+
+    private void reloadBill(Long billId) {
+        RoaringBitmap students = new RoaringBitmap();
+        jdbcTemplate.query("select student_id from student_bills where bill_id = ?",
+                rs -> {
+                    students.add(toInt(rs.getLong(1)));
+                },
+                billId);
+        students.runOptimize();
+
+        mutate(() -> studentsByBill.put(billId, students));
+    }
+
+    private void reloadStudent(Long studentId) {
+        Set<Long> billIds = new HashSet<>(jdbcTemplate.queryForList(
+                "select bill_id from student_bills where student_id = ?", Long.class, studentId));
+        int student = toInt(studentId);
+
+        mutate(() -> {
+            for (Map.Entry<Long, RoaringBitmap> entry : studentsByBill.entrySet()) {
+                if (!billIds.contains(entry.getKey())) {
+                    entry.getValue().remove(student);
+                }
+            }
+            billIds.forEach(billId -> studentsByBill.computeIfAbsent(billId, id -> new RoaringBitmap()).add(student));
+        });
+    }
+
+    private void removeBill(Long billId) {
+        mutate(() -> studentsByBill.remove(billId));
+    }
+
+    // Every write to the maps goes through here, so a load in progress can replay it onto its snapshot
+    private void mutate(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private static int toInt(long studentId) {
+        return Math.toIntExact(studentId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.esd.project.Mapper;
+
+import com.esd.project.DTO.Request.BillTemplateRequest;
+import com.esd.project.DTO.Response.BillTemplateResponse;
+import com.esd.project.Entity.BillTemplate;
+import com.esd.project.Entity.Bills;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+public class BillTemplateMapper {
+
+    public static BillTemplate toEntity(BillTemplateRequest request) {
+        BillTemplate template = new BillTemplate();
+        template.setDescription(request.getDescription());
+        template.setAmount(request.getAmount());
+        template.setBillDateOffsetDays(request.getBillDateOffsetDays());
+        template.setDeadlineOffsetDays(request.getDeadlineOffsetDays());
+        template.setDomainNames(new ArrayList<>(request.getDomains()));
+        template.setActive(true);
+        return template;
+    }
+
+    public static BillTemplateResponse toResponse(BillTemplate template) {
+        if (template == null) {
+            return null;
+        }
+        return new BillTemplateResponse(
+                template.getTemplateId(),
+                template.getDescription(),
+                template.getAmount(),
+                template.getBillDateOffsetDays(),
+                template.getDeadlineOffsetDays(),
+                new ArrayList<>(template.getDomainNames()),
+                template.getActive()
+        );
+    }
+
+    // The term's bill, dated relative to the term start
+    public static Bills toBill(BillTemplate template, String term, LocalDate termStart) {
+        Bills bill = new Bills();
+        bill.setDescription(template.getDescription() + " (" + term + ")");
+        bill.setAmount(template.getAmount());
+        bill.setBillDate(termStart.plusDays(template.getBillDateOffsetDays()));
+        bill.setDeadline(termStart.plusDays(template.getDeadlineOffsetDays()));
+        return bill;
+    }
+}
@@ -0,0 +1,22 @@
+package com.esd.project.Mapper;
+
+import com.esd.project.DTO.Response.FeeBundleResponse;
+import com.esd.project.Entity.FeeBundle;
+
+import java.util.stream.Collectors;
+
+public class FeeBundleMapper {
+
+    public static FeeBundleResponse toResponse(FeeBundle bundle) {
+        if (bundle == null) {
+            return null;
+        }
+        return new FeeBundleResponse(
+                bundle.getBundleId(),
+                bundle.getName(),
+                bundle.getBills().stream()
+                        .map(BillMapper::toResponse)
+                        .collect(Collectors.toList())
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.esd.project.Mapper;
+
+import com.esd.project.DTO.Request.PaymentRequest;
+import com.esd.project.DTO.Response.PaymentResponse;
+import com.esd.project.DTO.Response.StatementReviewItemResponse;
+import com.esd.project.Entity.Payment;
+import com.esd.project.Entity.StatementReviewItem;
+import com.esd.project.Entity.StudentBills;
+
+import java.time.LocalDateTime;
+
+public class PaymentMapper {
+
+    public static Payment toEntity(PaymentRequest request, StudentBills studentBill) {
+        Payment payment = new Payment();
+        payment.setStudentBill(studentBill);
+        payment.setAmount(request.getAmount());
+        payment.setPaidOn(request.getPaidOn());
+        payment.setReference(request.getReference().trim());
+        payment.setRecordedAt(LocalDateTime.now());
+        return payment;
+    }
+
+    public static PaymentResponse toResponse(Payment payment) {
+        if (payment == null || payment.getStudentBill() == null) {
+            return null;
+        }
+        StudentBills studentBill = payment.getStudentBill();
+        return new PaymentResponse(
+                payment.getPaymentId(),
+                studentBill.getId(),
+                studentBill.getStudent().getRollNumber(),
+                studentBill.getBill().getBillId(),
+                payment.getAmount(),
+                payment.getPaidOn(),
+                payment.getReference()
+        );
+    }
+
+    public static StatementReviewItem toReviewItem(long lineNumber, String rawLine, String reason,
+                                                   LocalDateTime importedAt) {
+        StatementReviewItem item = new StatementReviewItem();
+        item.setLineNumber(lineNumber);
+        item.setRawLine(rawLine);
+        item.setReason(reason);
+        item.setImportedAt(importedAt);
+        item.setResolved(false);
+        return item;
+    }
+
+    public static StatementReviewItemResponse toResponse(StatementReviewItem item) {
+        if (item == null) {
+            return null;
+        }
+        return new StatementReviewItemResponse(
+                item.getId(),
+                item.getLineNumber(),
+                item.getRawLine(),
+                item.getReason(),
+                item.getImportedAt()
+        );
+    }
+}
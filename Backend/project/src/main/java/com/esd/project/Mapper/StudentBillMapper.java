@@ -1,14 +1,16 @@
 package com.esd.project.Mapper;
 
+import com.esd.project.DTO.Response.AssignmentCompactResponse;
 import com.esd.project.DTO.Response.StudentBillResponse;
+import com.esd.project.Entity.Bills;
+import com.esd.project.Entity.Student;
 import com.esd.project.Entity.StudentBills;
 
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 public class StudentBillMapper {
     
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    
     public static StudentBillResponse toResponse(StudentBills studentBill) {
         if (studentBill == null || studentBill.getStudent() == null || studentBill.getBill() == null) {
             return null;
@@ -22,13 +24,27 @@ public class StudentBillMapper {
                 studentBill.getBill().getBillId(),
                 studentBill.getBill().getDescription(),
                 studentBill.getBill().getAmount(),
-                studentBill.getBill().getBillDate() != null 
-                        ? studentBill.getBill().getBillDate().format(DATE_FORMATTER) 
-                        : null,
-                studentBill.getBill().getDeadline() != null 
-                        ? studentBill.getBill().getDeadline().format(DATE_FORMATTER) 
-                        : null
+                studentBill.getBill().getBillDate(),
+                studentBill.getBill().getDeadline()
         );
     }
-}
 
+    // One bill, many students: the bill is written once instead of per row
+    public static AssignmentCompactResponse toCompactResponse(Bills bill, List<StudentBills> studentBills) {
+        List<Long> ids = new ArrayList<>(studentBills.size());
+        List<String> rollNumbers = new ArrayList<>(studentBills.size());
+        List<String> names = new ArrayList<>(studentBills.size());
+        List<String> emails = new ArrayList<>(studentBills.size());
+
+        for (StudentBills studentBill : studentBills) {
+            Student student = studentBill.getStudent();
+            ids.add(studentBill.getId());
+            rollNumbers.add(student.getRollNumber());
+            names.add(student.getName());
+            emails.add(student.getEmail());
+        }
+
+        return new AssignmentCompactResponse(BillMapper.toResponse(bill), studentBills.size(),
+                ids, rollNumbers, names, emails);
+    }
+}
@@ -0,0 +1,15 @@
+package com.esd.project.Notification;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Default transport: logs messages instead of sending them
+public class LoggingNotificationTransport implements NotificationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationTransport.class);
+
+    @Override
+    public void send(OutgoingNotification notification) {
+        log.info("Notification to {}: {}", notification.getRecipient(), notification.getSubject());
+    }
+}
@@ -0,0 +1,186 @@
+package com.esd.project.Notification;
+
+import com.esd.project.Repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Background sender for the notification outbox.
+// Claims due rows in chunks, sends one message per recipient covering all of their new bills,
+// and reschedules failed recipients with exponential backoff until notifications.max-attempts.
+@Component
+public class NotificationDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationTransport transport;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final Duration backoffBase;
+    private final Duration backoffMax;
+    private final Duration claimTimeout;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter sent;
+    private final Counter failed;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public NotificationDispatcher(NotificationOutboxRepository outboxRepository,
+                                  NotificationTransport transport,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${notifications.batch-size:200}") int batchSize,
+                                  @Value("${notifications.poll-interval-ms:1000}") long pollIntervalMs,
+                                  @Value("${notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${notifications.backoff-base-ms:30000}") long backoffBaseMs,
+                                  @Value("${notifications.backoff-max-ms:3600000}") long backoffMaxMs,
+                                  @Value("${notifications.claim-timeout-ms:300000}") long claimTimeoutMs) {
+        this.outboxRepository = outboxRepository;
+        this.transport = transport;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.backoffBase = Duration.ofMillis(backoffBaseMs);
+        this.backoffMax = Duration.ofMillis(backoffMaxMs);
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+
+        this.sent = Counter.builder("notifications.sent").register(meterRegistry);
+        this.failed = Counter.builder("notifications.failed").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = new Thread(this::run, "notification-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    private void run() {
+        while (running) {
+            int claimed;
+            try {
+                claimed = dispatchOnce();
+            } catch (RuntimeException ex) {
+                log.warn("Notification dispatch failed", ex);
+                claimed = 0;
+            }
+            // Keep draining while chunks come back full
+            if (claimed < batchSize && running) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(pollIntervalMs));
+            }
+        }
+    }
+
+    // Returns the number of rows claimed
+    public int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        String claimToken = instanceId + ":" + System.nanoTime();
+        outboxRepository.failAbandoned(now, maxAttempts);
+        int claimed = outboxRepository.claim(claimToken, batchSize, now, now.plus(claimTimeout), maxAttempts);
+        if (claimed == 0) {
+            return 0;
+        }
+
+        List<PendingNotification> rows = outboxRepository.findClaimed(claimToken);
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> cancelledIds = new ArrayList<>();
+
+        int from = 0;
+        while (from < rows.size()) {
+            String recipient = rows.get(from).getRecipient();
+            int to = from;
+            while (to < rows.size() && rows.get(to).getRecipient().equals(recipient)) {
+                to++;
+            }
+            List<PendingNotification> group = rows.subList(from, to);
+            from = to;
+
+            List<PendingNotification> lines = new ArrayList<>();
+            for (PendingNotification row : group) {
+                if (row.getBillId() == null) {
+                    cancelledIds.add(row.getId());
+                } else {
+                    lines.add(row);
+                }
+            }
+            if (lines.isEmpty()) {
+                continue;
+            }
+
+            List<Long> ids = lines.stream().map(PendingNotification::getId).toList();
+            try {
+                transport.send(render(recipient, lines));
+                sentIds.addAll(ids);
+                sent.increment();
+            } catch (RuntimeException ex) {
+                failed.increment();
+                // Attempts include this one; the first retry waits the base delay
+                int attempts = lines.stream().mapToInt(PendingNotification::getAttempts).max().orElse(1);
+                outboxRepository.markFailed(ids, maxAttempts, LocalDateTime.now().plus(backoff(attempts - 1)),
+                        ex.getMessage());
+            }
+        }
+
+        outboxRepository.markSent(sentIds, LocalDateTime.now());
+        outboxRepository.markCancelled(cancelledIds, "Bill no longer exists");
+        return claimed;
+    }
+
+    // base * 2^attempts, capped
+    private Duration backoff(int attempts) {
+        Duration delay = backoffBase.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private static OutgoingNotification render(String recipient, List<PendingNotification> lines) {
+        String subject = lines.size() == 1
+                ? "New bill: " + lines.get(0).getDescription()
+                : lines.size() + " new bills";
+
+        StringBuilder body = new StringBuilder();
+        String name = lines.get(0).getStudentName();
+        body.append("Dear ").append(name != null ? name : "student").append(",\n\n");
+        body.append(lines.size() == 1 ? "A new bill has" : "New bills have").append(" been added to your account:\n\n");
+        for (PendingNotification line : lines) {
+            body.append("  ").append(line.getDescription())
+                    .append(" - ").append(String.format("%.2f", line.getAmount()))
+                    .append(", due ").append(format(line.getDeadline()))
+                    .append('\n');
+        }
+        body.append("\nPlease pay before the deadline.\n");
+        return new OutgoingNotification(recipient, subject, body.toString());
+    }
+
+    private static String format(LocalDate date) {
+        return date != null ? date.format(DATE_FORMAT) : "-";
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+}
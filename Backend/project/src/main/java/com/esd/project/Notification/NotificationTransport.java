@@ -0,0 +1,7 @@
+package com.esd.project.Notification;
+
+// Delivers one message; throwing marks the recipient's rows for a retry
+public interface NotificationTransport {
+
+    void send(OutgoingNotification notification);
+}
@@ -0,0 +1,32 @@
+package com.esd.project.Notification;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+// Picks the transport when the context starts. A bean condition would be fixed at build time
+// in the AOT-built fast-startup jar, and notifications.transport would then be ignored.
+@Configuration
+public class NotificationTransportConfig {
+
+    @Bean
+    public NotificationTransport notificationTransport(@Value("${notifications.transport:log}") String transport,
+                                                       @Value("${notifications.from}") String from,
+                                                       ObjectProvider<JavaMailSender> mailSender) {
+        switch (transport) {
+            case "log":
+                return new LoggingNotificationTransport();
+            case "smtp":
+                JavaMailSender sender = mailSender.getIfAvailable();
+                if (sender == null) {
+                    // Boot only creates the sender when spring.mail.host is set (at build time for AOT jars)
+                    throw new IllegalStateException("notifications.transport=smtp needs spring.mail.host");
+                }
+                return new SmtpNotificationTransport(sender, from);
+            default:
+                throw new IllegalStateException("Unknown notifications.transport: " + transport);
+        }
+    }
+}
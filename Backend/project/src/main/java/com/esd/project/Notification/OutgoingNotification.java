@@ -0,0 +1,13 @@
+package com.esd.project.Notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OutgoingNotification {
+
+    private String recipient;
+    private String subject;
+    private String body;
+}
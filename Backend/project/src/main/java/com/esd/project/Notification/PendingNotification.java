@@ -0,0 +1,22 @@
+package com.esd.project.Notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// One claimed outbox row joined with its student and bill.
+// Bill fields are null when the bill was deleted after the row was queued.
+@Data
+@AllArgsConstructor
+public class PendingNotification {
+
+    private Long id;
+    private String recipient;
+    private String studentName;
+    private Integer attempts;
+    private Long billId;
+    private String description;
+    private Double amount;
+    private LocalDate deadline;
+}
@@ -0,0 +1,27 @@
+package com.esd.project.Notification;
+
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+// Sends through spring.mail.*; point spring.mail.host/port at a local SMTP stand-in
+// (GreenMail, MailHog, ...) to try it without a real mail server
+public class SmtpNotificationTransport implements NotificationTransport {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+
+    public SmtpNotificationTransport(JavaMailSender mailSender, String from) {
+        this.mailSender = mailSender;
+        this.from = from;
+    }
+
+    @Override
+    public void send(OutgoingNotification notification) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(notification.getRecipient());
+        message.setSubject(notification.getSubject());
+        message.setText(notification.getBody());
+        mailSender.send(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.esd.project.Projection;
+
+public enum BillField implements ProjectionField {
+    BILL_ID("billId", "b.billId"),
+    DESCRIPTION("description", "b.description"),
+    AMOUNT("amount", "b.amount"),
+    BILL_DATE("billDate", "b.billDate"),
+    DEADLINE("deadline", "b.deadline");
+
+    private final String jsonName;
+    private final String path;
+
+    BillField(String jsonName, String path) {
+        this.jsonName = jsonName;
+        this.path = path;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String path() {
+        return path;
+    }
+}
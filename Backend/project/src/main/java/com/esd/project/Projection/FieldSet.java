@@ -0,0 +1,98 @@
+package com.esd.project.Projection;
+
+import com.esd.project.Exception.BusinessException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// A validated, ordered set of fields compiled once into a select clause and a row writer.
+// Instances are cached per distinct field combination, so repeated requests reuse them.
+public final class FieldSet<F extends Enum<F> & ProjectionField> {
+
+    private static final Map<String, FieldSet<?>> CACHE = new ConcurrentHashMap<>();
+
+    // Pre-encoded property names, written as-is for every row
+    private final SerializableString[] names;
+    private final String selectClause;
+    private final Set<String> aliases;
+
+    private FieldSet(EnumSet<F> fields) {
+        this.names = fields.stream().map(field -> new SerializedString(field.jsonName()))
+                .toArray(SerializableString[]::new);
+        this.selectClause = fields.stream().map(ProjectionField::path).collect(Collectors.joining(", "));
+        this.aliases = fields.stream().map(field -> field.path().substring(0, field.path().indexOf('.')))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <F extends Enum<F> & ProjectionField> FieldSet<F> parse(Class<F> type, String fields) {
+        EnumSet<F> selected = EnumSet.noneOf(type);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(lookup(type, trimmed));
+        }
+        if (selected.isEmpty()) {
+            throw new BusinessException("At least one field must be requested");
+        }
+
+        // EnumSet order is canonical, so "a,b" and "b,a" share one compiled instance
+        String key = type.getName() + ":" + selected;
+        return (FieldSet<F>) CACHE.computeIfAbsent(key, k -> new FieldSet<>(selected));
+    }
+
+    public String selectClause() {
+        return selectClause;
+    }
+
+    // Whether a selected path starts at the given query alias, i.e. that entity must be joined
+    public boolean uses(String alias) {
+        return aliases.contains(alias);
+    }
+
+    public ProjectedRow row(Object[] values) {
+        return new ProjectedRow(this, values);
+    }
+
+    public ProjectedRows rows(List<Object[]> values) {
+        return new ProjectedRows(this, values);
+    }
+
+    // Streams one row as an object straight from the query's column array.
+    // Values go through the context, so the response format's own serializers (e.g. binary dates) apply.
+    void write(Object[] values, JsonGenerator gen, SerializationContext context) {
+        gen.writeStartObject(values, names.length);
+        for (int i = 0; i < names.length; i++) {
+            gen.writeName(names[i]);
+            if (values[i] == null) {
+                gen.writeNull();
+            } else {
+                context.writeValue(gen, values[i]);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    private static <F extends Enum<F> & ProjectionField> F lookup(Class<F> type, String name) {
+        for (F field : type.getEnumConstants()) {
+            if (field.jsonName().equals(name)) {
+                return field;
+            }
+        }
+        String allowed = Arrays.stream(type.getEnumConstants())
+                .map(ProjectionField::jsonName)
+                .collect(Collectors.joining(", "));
+        throw new BusinessException("Unknown field '" + name + "'. Allowed fields: " + allowed);
+    }
+}
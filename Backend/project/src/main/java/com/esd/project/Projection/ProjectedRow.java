@@ -0,0 +1,31 @@
+package com.esd.project.Projection;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+// One query row with the requested fields; written as an object by its FieldSet
+@JsonSerialize(using = ProjectedRow.Writer.class)
+public final class ProjectedRow {
+
+    private final FieldSet<?> fields;
+    private final Object[] values;
+
+    ProjectedRow(FieldSet<?> fields, Object[] values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    static final class Writer extends StdSerializer<ProjectedRow> {
+
+        Writer() {
+            super(ProjectedRow.class);
+        }
+
+        @Override
+        public void serialize(ProjectedRow row, JsonGenerator gen, SerializationContext context) {
+            row.fields.write(row.values, gen, context);
+        }
+    }
+}
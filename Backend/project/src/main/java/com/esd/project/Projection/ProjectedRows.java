@@ -0,0 +1,38 @@
+package com.esd.project.Projection;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JsonSerialize;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.List;
+
+// Query rows with the requested fields, kept as column arrays and written as an array of objects.
+// No per-row map or wrapper is built.
+@JsonSerialize(using = ProjectedRows.Writer.class)
+public final class ProjectedRows {
+
+    private final FieldSet<?> fields;
+    private final List<Object[]> values;
+
+    ProjectedRows(FieldSet<?> fields, List<Object[]> values) {
+        this.fields = fields;
+        this.values = values;
+    }
+
+    static final class Writer extends StdSerializer<ProjectedRows> {
+
+        Writer() {
+            super(ProjectedRows.class);
+        }
+
+        @Override
+        public void serialize(ProjectedRows rows, JsonGenerator gen, SerializationContext context) {
+            gen.writeStartArray(rows, rows.values.size());
+            for (Object[] row : rows.values) {
+                rows.fields.write(row, gen, context);
+            }
+            gen.writeEndArray();
+        }
+    }
+}
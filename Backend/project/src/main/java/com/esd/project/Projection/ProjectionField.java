@@ -0,0 +1,10 @@
+package com.esd.project.Projection;
+
+public interface ProjectionField {
+
+    // Name used in the fields= parameter and in the JSON output
+    String jsonName();
+
+    // JPQL path selected when this field is requested; its first segment is the entity alias
+    String path();
+}
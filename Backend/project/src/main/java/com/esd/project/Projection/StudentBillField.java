@@ -0,0 +1,31 @@
+package com.esd.project.Projection;
+
+public enum StudentBillField implements ProjectionField {
+    ID("id", "sb.id"),
+    ROLL_NUMBER("rollNumber", "s.rollNumber"),
+    STUDENT_NAME("studentName", "s.name"),
+    STUDENT_EMAIL("studentEmail", "s.email"),
+    BILL_ID("billId", "sb.bill.billId"),
+    BILL_DESCRIPTION("billDescription", "b.description"),
+    BILL_AMOUNT("billAmount", "b.amount"),
+    BILL_DATE("billDate", "b.billDate"),
+    DEADLINE("deadline", "b.deadline");
+
+    private final String jsonName;
+    private final String path;
+
+    StudentBillField(String jsonName, String path) {
+        this.jsonName = jsonName;
+        this.path = path;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String path() {
+        return path;
+    }
+}
@@ -0,0 +1,100 @@
+package com.esd.project.Reconciliation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Open-addressing hash table from (roll number, bill id) to the student_bills id.
+// Lookups compare raw bytes, so statement lines never need to be turned into Strings.
+public class AssignmentLookup {
+
+    private final long[] hashes;
+    private final byte[][] rolls;
+    private final long[] billIds;
+    private final long[] studentBillIds;
+    private final int mask;
+    private int size;
+
+    public AssignmentLookup(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.hashes = new long[capacity];
+        this.rolls = new byte[capacity][];
+        this.billIds = new long[capacity];
+        this.studentBillIds = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public void put(String rollNumber, long billId, long studentBillId) {
+        byte[] roll = rollNumber.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(roll, 0, roll.length, billId);
+
+        int slot = (int) hash & mask;
+        while (rolls[slot] != null) {
+            if (hashes[slot] == hash && billIds[slot] == billId && Arrays.equals(rolls[slot], roll)) {
+                studentBillIds[slot] = studentBillId;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        rolls[slot] = roll;
+        billIds[slot] = billId;
+        studentBillIds[slot] = studentBillId;
+        size++;
+    }
+
+    // Returns the student_bills id, or -1 when the student does not hold the bill
+    public long find(ByteBuffer buffer, int offset, int length, long billId) {
+        long hash = hash(buffer, offset, length, billId);
+
+        int slot = (int) hash & mask;
+        while (rolls[slot] != null) {
+            if (hashes[slot] == hash && billIds[slot] == billId && matches(rolls[slot], buffer, offset, length)) {
+                return studentBillIds[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private static boolean matches(byte[] roll, ByteBuffer buffer, int offset, int length) {
+        if (roll.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (roll[i] != buffer.get(offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the roll bytes, then mixed with the bill id
+    private static long hash(byte[] bytes, int offset, int length, long billId) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h ^= bytes[i];
+            h *= 0x100000001b3L;
+        }
+        return mix(h, billId);
+    }
+
+    private static long hash(ByteBuffer buffer, int offset, int length, long billId) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = offset; i < offset + length; i++) {
+            h ^= buffer.get(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h, billId);
+    }
+
+    private static long mix(long h, long billId) {
+        h ^= billId * 0x9e3779b97f4a7c15L;
+        h ^= h >>> 32;
+        return h;
+    }
+}
@@ -0,0 +1,17 @@
+package com.esd.project.Reconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// A statement line matched to a student bill, waiting for its batch insert
+@Data
+@AllArgsConstructor
+public class MatchedPayment {
+
+    private long studentBillId;
+    private long amountCents;
+    private LocalDate paidOn;
+    private String reference;
+}
@@ -0,0 +1,282 @@
+package com.esd.project.Reconciliation;
+
+import com.esd.project.Exception.BusinessException;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Parses a bank statement export straight from a memory-mapped file.
+// Expected line format: yyyy-MM-dd,rollNumber,billId,amount,reference
+// Fields are handed over as offsets into the mapping, so no String is created per line.
+public class StatementReader {
+
+    private static final int FIELD_COUNT = 5;
+    // Longer digit runs could overflow a long
+    private static final int MAX_DIGITS = 18;
+
+    public interface LineHandler {
+        void onLine(StatementLine line);
+
+        void onMalformed(long lineNumber, String rawLine, String reason);
+    }
+
+    // Reused for every line; only valid during the callback
+    public static final class StatementLine {
+
+        private MappedByteBuffer buffer;
+        private long lineNumber;
+        private int lineOffset;
+        private int lineLength;
+        private int year;
+        private int month;
+        private int day;
+        private int rollOffset;
+        private int rollLength;
+        private long billId;
+        private long amountCents;
+        private int referenceOffset;
+        private int referenceLength;
+
+        public long lineNumber() {
+            return lineNumber;
+        }
+
+        public int year() {
+            return year;
+        }
+
+        public int month() {
+            return month;
+        }
+
+        public int day() {
+            return day;
+        }
+
+        public MappedByteBuffer buffer() {
+            return buffer;
+        }
+
+        public int rollOffset() {
+            return rollOffset;
+        }
+
+        public int rollLength() {
+            return rollLength;
+        }
+
+        public long billId() {
+            return billId;
+        }
+
+        public long amountCents() {
+            return amountCents;
+        }
+
+        public String reference() {
+            return decode(buffer, referenceOffset, referenceLength);
+        }
+
+        public String raw() {
+            return decode(buffer, lineOffset, lineLength);
+        }
+    }
+
+    public static void read(Path file, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new BusinessException("Statement file is larger than 2 GB, split it before importing");
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            try {
+                readLines(buffer, (int) size, handler);
+            } finally {
+                // The caller deletes the file next, which fails on Windows while it is still mapped
+                unmap(buffer);
+            }
+        }
+    }
+
+    private static void readLines(MappedByteBuffer buffer, int limit, LineHandler handler) {
+        StatementLine line = new StatementLine();
+        line.buffer = buffer;
+
+        int[] starts = new int[FIELD_COUNT];
+        int[] ends = new int[FIELD_COUNT];
+        int lineStart = 0;
+        long lineNumber = 0;
+
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && buffer.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            lineNumber++;
+
+            if (lineEnd > lineStart) {
+                parseLine(buffer, lineStart, lineEnd, lineNumber, starts, ends, line, handler);
+            }
+            lineStart = next;
+        }
+        line.buffer = null;
+    }
+
+    // Java 17 has no public way to release a mapping before the buffer is garbage collected;
+    // sun.misc.Unsafe.invokeCleaner (module jdk.unsupported) does it. Without it the mapping
+    // stays until the next GC.
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // Left to the garbage collector
+        }
+    }
+
+    private static void parseLine(MappedByteBuffer buffer, int start, int end, long lineNumber,
+                                  int[] starts, int[] ends, StatementLine line, LineHandler handler) {
+        int field = 0;
+        starts[0] = start;
+        for (int i = start; i < end && field < FIELD_COUNT; i++) {
+            if (buffer.get(i) == ',') {
+                ends[field] = i;
+                field++;
+                if (field < FIELD_COUNT) {
+                    starts[field] = i + 1;
+                }
+            }
+        }
+        if (field == FIELD_COUNT - 1) {
+            ends[field] = end;
+            field++;
+        }
+        if (field != FIELD_COUNT) {
+            handler.onMalformed(lineNumber, decode(buffer, start, end - start), "Expected 5 comma-separated fields");
+            return;
+        }
+
+        // Column titles on the first line
+        if (lineNumber == 1 && !isDigit(buffer.get(starts[0]))) {
+            return;
+        }
+
+        line.lineNumber = lineNumber;
+        line.lineOffset = start;
+        line.lineLength = end - start;
+        if (!parseDate(buffer, starts[0], ends[0], line)) {
+            handler.onMalformed(lineNumber, decode(buffer, start, end - start), "Invalid date");
+            return;
+        }
+
+        line.rollOffset = starts[1];
+        line.rollLength = ends[1] - starts[1];
+        line.billId = parseLong(buffer, starts[2], ends[2]);
+        line.amountCents = parseCents(buffer, starts[3], ends[3]);
+        line.referenceOffset = starts[4];
+        line.referenceLength = ends[4] - starts[4];
+
+        if (line.rollLength == 0 || line.billId < 0 || line.amountCents <= 0 || line.referenceLength == 0) {
+            handler.onMalformed(lineNumber, decode(buffer, start, end - start), "Missing or invalid field");
+            return;
+        }
+
+        handler.onLine(line);
+    }
+
+    // yyyy-MM-dd
+    private static boolean parseDate(MappedByteBuffer buffer, int start, int end, StatementLine line) {
+        if (end - start != 10 || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-') {
+            return false;
+        }
+        long year = parseLong(buffer, start, start + 4);
+        long month = parseLong(buffer, start + 5, start + 7);
+        long day = parseLong(buffer, start + 8, start + 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return false;
+        }
+        line.year = (int) year;
+        line.month = (int) month;
+        line.day = (int) day;
+        return true;
+    }
+
+    // Returns -1 when the field is empty, not all digits or too long to fit
+    private static long parseLong(MappedByteBuffer buffer, int start, int end) {
+        if (start >= end || end - start > MAX_DIGITS) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (!isDigit(b)) {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    // "1250", "1250.5" and "1250.50" all become 125050; returns -1 on anything else
+    private static long parseCents(MappedByteBuffer buffer, int start, int end) {
+        long units = 0;
+        long cents = 0;
+        int decimals = -1;
+        int unitDigits = 0;
+        boolean digits = false;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '.' && decimals < 0) {
+                decimals = 0;
+            } else if (isDigit(b)) {
+                digits = true;
+                if (decimals < 0) {
+                    // units * 100 must still fit in a long
+                    if (++unitDigits > MAX_DIGITS - 2) {
+                        return -1;
+                    }
+                    units = units * 10 + (b - '0');
+                } else if (decimals < 2) {
+                    cents = cents * 10 + (b - '0');
+                    decimals++;
+                } else {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (!digits) {
+            return -1;
+        }
+        if (decimals == 1) {
+            cents *= 10;
+        }
+        return units * 100 + cents;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static String decode(MappedByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[Math.min(length, 1000)];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
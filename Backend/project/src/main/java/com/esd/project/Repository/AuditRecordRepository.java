@@ -0,0 +1,12 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.AuditRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AuditRecordRepository extends JpaRepository<AuditRecord, Long> {
+
+    List<AuditRecord> findByOrderByIdDesc(Pageable pageable);
+}
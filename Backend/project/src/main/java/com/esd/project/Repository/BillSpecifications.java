@@ -0,0 +1,48 @@
+package com.esd.project.Repository;
+
+import com.esd.project.DTO.Request.BillFilterRequest;
+import com.esd.project.Entity.Bills;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Criteria for /bills/filter. Every bound is a plain comparison on an indexed column,
+// so MySQL can range-scan idx_bills_deadline_amount or idx_bills_bill_date_amount.
+public final class BillSpecifications {
+
+    private BillSpecifications() {
+    }
+
+    public static Specification<Bills> matching(BillFilterRequest filter, LocalDate today) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.getBillDateFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("billDate"), filter.getBillDateFrom()));
+            }
+            if (filter.getBillDateTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("billDate"), filter.getBillDateTo()));
+            }
+            if (filter.getDeadlineFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("deadline"), filter.getDeadlineFrom()));
+            }
+            if (filter.getDeadlineTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("deadline"), filter.getDeadlineTo()));
+            }
+            if (filter.getDueWithinDays() != null) {
+                predicates.add(cb.between(root.get("deadline"), today, today.plusDays(filter.getDueWithinDays())));
+            }
+            if (filter.getMinAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("amount"), filter.getMinAmount()));
+            }
+            if (filter.getMaxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("amount"), filter.getMaxAmount()));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
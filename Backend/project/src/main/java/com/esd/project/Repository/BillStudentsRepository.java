@@ -0,0 +1,117 @@
+package com.esd.project.Repository;
+
+import com.esd.project.DTO.Response.BillStudentResponse;
+import com.esd.project.DTO.Response.BillStudentsCompactResponse;
+import com.esd.project.DTO.Response.BillStudentsPageResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Students holding a bill, one keyset page at a time.
+// Pages are read from student_bills in student_id order (idx_student_bills_bill_student), starting after
+// the cursor; each row's student is joined by primary key for its roll number, name and email.
+@Repository
+public class BillStudentsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BillStudentsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public BillStudentsPageResponse findPage(Long billId, Long afterStudentId, Long domainId,
+                                             Double unpaidBelow, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = pageQuery(billId, afterStudentId, domainId, unpaidBelow, limit, args);
+
+        List<BillStudentResponse> students = new ArrayList<>(limit);
+        Long[] nextAfter = new Long[1];
+        long[] lastStudentId = new long[1];
+        jdbcTemplate.query(sql, rs -> {
+            if (students.size() == limit) {
+                nextAfter[0] = lastStudentId[0];
+                return;
+            }
+            lastStudentId[0] = rs.getLong(1);
+            students.add(new BillStudentResponse(rs.getLong(2), rs.getString(3), rs.getString(4), rs.getString(5)));
+        }, args.toArray());
+
+        return new BillStudentsPageResponse(billId, students, nextAfter[0]);
+    }
+
+    // The same page written column by column into the parallel arrays of the compact format
+    public BillStudentsCompactResponse findCompactPage(Long billId, Long afterStudentId, Long domainId,
+                                                       Double unpaidBelow, int limit) {
+        List<Object> args = new ArrayList<>();
+        String sql = pageQuery(billId, afterStudentId, domainId, unpaidBelow, limit, args);
+
+        List<Long> ids = new ArrayList<>(limit);
+        List<String> rollNumbers = new ArrayList<>(limit);
+        List<String> names = new ArrayList<>(limit);
+        List<String> emails = new ArrayList<>(limit);
+        Long[] nextAfter = new Long[1];
+        long[] lastStudentId = new long[1];
+        jdbcTemplate.query(sql, rs -> {
+            if (ids.size() == limit) {
+                nextAfter[0] = lastStudentId[0];
+                return;
+            }
+            lastStudentId[0] = rs.getLong(1);
+            ids.add(rs.getLong(2));
+            rollNumbers.add(rs.getString(3));
+            names.add(rs.getString(4));
+            emails.add(rs.getString(5));
+        }, args.toArray());
+
+        return new BillStudentsCompactResponse(billId, ids, rollNumbers, names, emails, nextAfter[0]);
+    }
+
+    // domainId and unpaidBelow are optional; unpaidBelow keeps students who have paid less than it.
+    // One row past `limit` is read to tell whether another page follows.
+    // Columns: student_id, student_bills id, roll_number, name, email
+    private static String pageQuery(Long billId, Long afterStudentId, Long domainId, Double unpaidBelow,
+                                    int limit, List<Object> args) {
+        StringBuilder sql = new StringBuilder("select sb.student_id, sb.id, s.roll_number, s.name, s.email "
+                + "from student_bills sb join student s on s.student_id = sb.student_id "
+                + "where sb.bill_id = ?");
+        args.add(billId);
+
+        if (afterStudentId != null) {
+            sql.append(" and sb.student_id > ?");
+            args.add(afterStudentId);
+        }
+        if (domainId != null) {
+            sql.append(" and s.domain = ?");
+            args.add(domainId);
+        }
+        if (unpaidBelow != null) {
+            sql.append(" and coalesce((select sum(p.amount) from payments p where p.student_bill_id = sb.id), 0) < ?");
+            args.add(unpaidBelow);
+        }
+        sql.append(" order by sb.student_id limit ?");
+        args.add(limit + 1);
+        return sql.toString();
+    }
+
+    // Number of students matching the same filters as findPage
+    public long count(Long billId, Long domainId, Double unpaidBelow) {
+        StringBuilder sql = new StringBuilder("select count(*) from student_bills sb");
+        List<Object> args = new ArrayList<>();
+
+        if (domainId != null) {
+            sql.append(" join student s on s.student_id = sb.student_id and s.domain = ?");
+            args.add(domainId);
+        }
+        sql.append(" where sb.bill_id = ?");
+        args.add(billId);
+        if (unpaidBelow != null) {
+            sql.append(" and coalesce((select sum(p.amount) from payments p where p.student_bill_id = sb.id), 0) < ?");
+            args.add(unpaidBelow);
+        }
+
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.BillTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface BillTemplateRepository extends JpaRepository<BillTemplate, Long> {
+
+    List<BillTemplate> findByActiveTrue();
+}
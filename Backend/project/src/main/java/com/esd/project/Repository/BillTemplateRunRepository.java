@@ -0,0 +1,14 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.BillTemplateRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Set;
+
+public interface BillTemplateRunRepository extends JpaRepository<BillTemplateRun, Long> {
+
+    @Query("select r.template.templateId from BillTemplateRun r where r.term = :term")
+    Set<Long> findTemplateIdsByTerm(@Param("term") String term);
+}
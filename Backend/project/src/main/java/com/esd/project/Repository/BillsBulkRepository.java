@@ -0,0 +1,98 @@
+package com.esd.project.Repository;
+
+import com.esd.project.DTO.Request.BillUpdateRequest;
+import com.esd.project.DTO.Request.BulkBillUpdateRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+// Set-based changes to bills; joins the caller's transaction
+@Repository
+public class BillsBulkRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BillsBulkRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Ids of the bills matching the filter, locked until the transaction ends.
+    // The locks also hold back assignments to these bills (their foreign key check waits).
+    public List<Long> lockMatching(BulkBillUpdateRequest filter) {
+        StringBuilder sql = new StringBuilder("select bill_id from bills where 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (filter.getBillIds() != null && !filter.getBillIds().isEmpty()) {
+            sql.append(" and bill_id in (");
+            for (int i = 0; i < filter.getBillIds().size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args.add(filter.getBillIds().get(i));
+            }
+            sql.append(")");
+        }
+        if (filter.getBillDateFrom() != null) {
+            sql.append(" and bill_date >= ?");
+            args.add(Date.valueOf(filter.getBillDateFrom()));
+        }
+        if (filter.getBillDateTo() != null) {
+            sql.append(" and bill_date <= ?");
+            args.add(Date.valueOf(filter.getBillDateTo()));
+        }
+        if (filter.getDescriptionPrefix() != null && !filter.getDescriptionPrefix().isEmpty()) {
+            sql.append(" and description like ?");
+            args.add(escapeLike(filter.getDescriptionPrefix()) + "%");
+        }
+        sql.append(" order by bill_id for update");
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray());
+    }
+
+    // Only the patch's non-null fields are set, in chunks of CHUNK_SIZE ids per statement.
+    // Returns the number of rows updated
+    public int updateAll(List<Long> billIds, BillUpdateRequest patch) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        if (patch.getDescription() != null) {
+            assignments.add("description = ?");
+            values.add(patch.getDescription());
+        }
+        if (patch.getAmount() != null) {
+            assignments.add("amount = ?");
+            values.add(patch.getAmount());
+        }
+        if (patch.getBillDate() != null) {
+            assignments.add("bill_date = ?");
+            values.add(Date.valueOf(patch.getBillDate()));
+        }
+        if (patch.getDeadline() != null) {
+            assignments.add("deadline = ?");
+            values.add(Date.valueOf(patch.getDeadline()));
+        }
+        String update = "update bills set " + String.join(", ", assignments) + " where bill_id in (";
+
+        int updated = 0;
+        for (int from = 0; from < billIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = billIds.subList(from, Math.min(from + CHUNK_SIZE, billIds.size()));
+
+            StringBuilder sql = new StringBuilder(update);
+            List<Object> args = new ArrayList<>(values);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args.add(chunk.get(i));
+            }
+            sql.append(")");
+
+            updated += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return updated;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
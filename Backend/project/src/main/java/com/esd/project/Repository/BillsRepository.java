@@ -2,6 +2,7 @@ package com.esd.project.Repository;
 
 import com.esd.project.Entity.Bills;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface BillsRepository extends JpaRepository<Bills, Long> {
+public interface BillsRepository extends JpaRepository<Bills, Long>, JpaSpecificationExecutor<Bills> {
 }
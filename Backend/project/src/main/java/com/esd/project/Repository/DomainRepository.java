@@ -4,8 +4,12 @@ import com.esd.project.Entity.Domain;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface DomainRepository extends JpaRepository<Domain, Long> {
 
     Domain findByDomainName(String domainName);
+    List<Domain> findByDomainNameIn(Collection<String> domainNames);
 }
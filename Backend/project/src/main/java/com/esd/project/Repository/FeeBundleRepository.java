@@ -0,0 +1,17 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.FeeBundle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface FeeBundleRepository extends JpaRepository<FeeBundle, Long> {
+
+    boolean existsByName(String name);
+
+    // Drops a deleted bill from every bundle that contains it
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from fee_bundle_bills where bill_id = :billId", nativeQuery = true)
+    int removeBillFromBundles(@Param("billId") Long billId);
+}
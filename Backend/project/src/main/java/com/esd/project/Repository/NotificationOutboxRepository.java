@@ -0,0 +1,135 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Notification.PendingNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+// Outbox rows are queued in the caller's transaction and claimed by the dispatcher with plain SQL
+@Repository
+public class NotificationOutboxRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // One "insert ... select" per chunk; the recipient is the student's email
+    public int enqueueAssignments(Long billId, List<Long> studentIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int queued = 0;
+        for (int from = 0; from < studentIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + CHUNK_SIZE, studentIds.size()));
+
+            StringBuilder sql = new StringBuilder("insert into notification_outbox "
+                    + "(student_id, bill_id, recipient, status, attempts, next_attempt_at, created_at) "
+                    + "select s.student_id, ?, s.email, 'PENDING', 0, ?, ? from student s where s.student_id in (");
+            Object[] args = new Object[chunk.size() + 3];
+            args[0] = billId;
+            args[1] = now;
+            args[2] = now;
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args[i + 3] = chunk.get(i);
+            }
+            sql.append(")");
+
+            queued += jdbcTemplate.update(sql.toString(), args);
+        }
+        return queued;
+    }
+
+    // Marks up to `limit` due rows as ours. Rows whose claim expired (a dispatcher died mid-send) are taken over.
+    // Taking a claim counts as an attempt, so a message that crashes its sender still runs out of attempts.
+    public int claim(String claimToken, int limit, LocalDateTime now, LocalDateTime claimedUntil, int maxAttempts) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        return jdbcTemplate.update("update notification_outbox "
+                        + "set status = 'SENDING', attempts = attempts + 1, claimed_by = ?, claimed_until = ? "
+                        + "where (status = 'PENDING' and next_attempt_at <= ?) "
+                        + "or (status = 'SENDING' and claimed_until < ? and attempts < ?) "
+                        + "order by id limit ?",
+                claimToken, Timestamp.valueOf(claimedUntil), nowTs, nowTs, maxAttempts, limit);
+    }
+
+    // Expired claims that used up their attempts are not taken over again
+    public int failAbandoned(LocalDateTime now, int maxAttempts) {
+        return jdbcTemplate.update("update notification_outbox "
+                        + "set status = 'FAILED', last_error = 'Sender stopped before finishing', "
+                        + "claimed_by = null, claimed_until = null "
+                        + "where status = 'SENDING' and claimed_until < ? and attempts >= ?",
+                Timestamp.valueOf(now), maxAttempts);
+    }
+
+    // Claimed rows ordered by recipient, so each recipient's rows are adjacent
+    public List<PendingNotification> findClaimed(String claimToken) {
+        return jdbcTemplate.query("select o.id, o.recipient, s.name, o.attempts, "
+                        + "b.bill_id, b.description, b.amount, b.deadline "
+                        + "from notification_outbox o "
+                        + "left join student s on s.student_id = o.student_id "
+                        + "left join bills b on b.bill_id = o.bill_id "
+                        + "where o.claimed_by = ? and o.status = 'SENDING' "
+                        + "order by o.recipient, o.id",
+                (rs, rowNum) -> {
+                    Date deadline = rs.getDate(8);
+                    return new PendingNotification(
+                            rs.getLong(1),
+                            rs.getString(2),
+                            rs.getString(3),
+                            rs.getInt(4),
+                            rs.getObject(5) != null ? rs.getLong(5) : null,
+                            rs.getString(6),
+                            rs.getObject(7) != null ? rs.getDouble(7) : null,
+                            deadline != null ? deadline.toLocalDate() : null);
+                },
+                claimToken);
+    }
+
+    public void markSent(Collection<Long> ids, LocalDateTime sentAt) {
+        update("update notification_outbox set status = 'SENT', sent_at = ?, claimed_by = null, "
+                + "claimed_until = null, last_error = null where id in ", ids, Timestamp.valueOf(sentAt));
+    }
+
+    public void markCancelled(Collection<Long> ids, String reason) {
+        update("update notification_outbox set status = 'CANCELLED', claimed_by = null, "
+                + "claimed_until = null, last_error = ? where id in ", ids, reason);
+    }
+
+    // attempts already counts this try (see claim)
+    public void markFailed(Collection<Long> ids, int maxAttempts, LocalDateTime nextAttemptAt, String error) {
+        update("update notification_outbox "
+                        + "set status = case when attempts >= ? then 'FAILED' else 'PENDING' end, "
+                        + "next_attempt_at = ?, last_error = ?, "
+                        + "claimed_by = null, claimed_until = null where id in ",
+                ids, maxAttempts, Timestamp.valueOf(nextAttemptAt), truncate(error));
+    }
+
+    private void update(String prefix, Collection<Long> ids, Object... leadingArgs) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(prefix).append("(");
+        List<Object> args = new ArrayList<>(leadingArgs.length + ids.size());
+        args.addAll(Arrays.asList(leadingArgs));
+        int i = 0;
+        for (Long id : ids) {
+            sql.append(i++ == 0 ? "?" : ", ?");
+            args.add(id);
+        }
+        sql.append(")");
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > 1000 ? value.substring(0, 997) + "..." : value;
+    }
+}
@@ -0,0 +1,9 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    boolean existsByReference(String reference);
+}
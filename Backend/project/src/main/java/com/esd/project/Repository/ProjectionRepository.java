@@ -0,0 +1,52 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Projection.BillField;
+import com.esd.project.Projection.FieldSet;
+import com.esd.project.Projection.ProjectedRow;
+import com.esd.project.Projection.ProjectedRows;
+import com.esd.project.Projection.StudentBillField;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+// Reads only the columns named in a FieldSet instead of whole entities
+@Repository
+public class ProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ProjectedRows findAllBills(FieldSet<BillField> fields) {
+        return fields.rows(entityManager
+                .createQuery("select " + fields.selectClause() + " from Bills b order by b.billId", Object[].class)
+                .getResultList());
+    }
+
+    public Optional<ProjectedRow> findBillById(Long billId, FieldSet<BillField> fields) {
+        return entityManager
+                .createQuery("select " + fields.selectClause() + " from Bills b where b.billId = :billId", Object[].class)
+                .setParameter("billId", billId)
+                .getResultList().stream()
+                .findFirst()
+                .map(fields::row);
+    }
+
+    // Student and bill are joined only when one of their columns is requested;
+    // the ids come from student_bills' own foreign keys
+    public ProjectedRows findStudentBillsByStudentId(Long studentId, FieldSet<StudentBillField> fields) {
+        StringBuilder jpql = new StringBuilder("select ").append(fields.selectClause()).append(" from StudentBills sb");
+        if (fields.uses("s")) {
+            jpql.append(" join sb.student s");
+        }
+        if (fields.uses("b")) {
+            jpql.append(" join sb.bill b");
+        }
+        jpql.append(" where sb.student.studentId = :studentId order by sb.id");
+
+        return fields.rows(entityManager.createQuery(jpql.toString(), Object[].class)
+                .setParameter("studentId", studentId)
+                .getResultList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Reconciliation.AssignmentLookup;
+import com.esd.project.Reconciliation.MatchedPayment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class ReconciliationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReconciliationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Every assignment keyed by roll number and bill id
+    public AssignmentLookup loadAssignmentLookup() {
+        List<Long> ids = new ArrayList<>();
+        List<String> rolls = new ArrayList<>();
+        List<Long> billIds = new ArrayList<>();
+
+        jdbcTemplate.query("select sb.id, s.roll_number, sb.bill_id from student_bills sb "
+                + "join student s on s.student_id = sb.student_id", rs -> {
+            ids.add(rs.getLong(1));
+            rolls.add(rs.getString(2));
+            billIds.add(rs.getLong(3));
+        });
+
+        AssignmentLookup lookup = new AssignmentLookup(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            lookup.put(rolls.get(i), billIds.get(i), ids.get(i));
+        }
+        return lookup;
+    }
+
+    // One multi-row statement per batch; references already on file are skipped.
+    // Returns the number of payments actually inserted.
+    public int insertPayments(List<MatchedPayment> payments, LocalDateTime recordedAt) {
+        if (payments.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "insert ignore into payments (student_bill_id, amount, paid_on, reference, recorded_at) values ");
+        Object[] args = new Object[payments.size() * 5];
+        Timestamp recorded = Timestamp.valueOf(recordedAt);
+
+        for (int i = 0; i < payments.size(); i++) {
+            MatchedPayment payment = payments.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+            args[i * 5] = payment.getStudentBillId();
+            args[i * 5 + 1] = payment.getAmountCents() / 100.0;
+            args[i * 5 + 2] = Date.valueOf(payment.getPaidOn());
+            args[i * 5 + 3] = payment.getReference();
+            args[i * 5 + 4] = recorded;
+        }
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
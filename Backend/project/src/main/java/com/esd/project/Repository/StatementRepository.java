@@ -0,0 +1,75 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Statement.StudentStatement;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class StatementRepository {
+
+    private static final int STUDENTS_PER_CHUNK = 200;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatementRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Statements of a domain's students in roll-number order, handed over a chunk of students at a time.
+    // Chunks are keyset pages on roll_number, each read completely before it is handed over, so no
+    // connection or transaction is held while the caller writes to a slow client.
+    // A student's rows always come from one query; different chunks are read at different moments.
+    public void readDomainStatements(Long domainId, Consumer<List<StudentStatement>> chunkHandler) {
+        String after = "";
+        while (true) {
+            List<String> rollNumbers = jdbcTemplate.queryForList("select roll_number from student "
+                            + "where domain = ? and roll_number > ? order by roll_number limit ?",
+                    String.class, domainId, after, STUDENTS_PER_CHUNK);
+            if (rollNumbers.isEmpty()) {
+                return;
+            }
+            String last = rollNumbers.get(rollNumbers.size() - 1);
+
+            chunkHandler.accept(readStatements(domainId, after, last));
+            if (rollNumbers.size() < STUDENTS_PER_CHUNK) {
+                return;
+            }
+            after = last;
+        }
+    }
+
+    // Students with roll_number in (after, last]; those without bills are left out
+    private List<StudentStatement> readStatements(Long domainId, String after, String last) {
+        List<StudentStatement> statements = new ArrayList<>();
+        jdbcTemplate.query("select s.roll_number, s.name, s.email, "
+                        + "b.bill_id, b.description, b.amount, b.bill_date, b.deadline, "
+                        + "(select coalesce(sum(p.amount), 0) from payments p where p.student_bill_id = sb.id) as paid "
+                        + "from student_bills sb "
+                        + "join student s on s.student_id = sb.student_id "
+                        + "join bills b on b.bill_id = sb.bill_id "
+                        + "where s.domain = ? and s.roll_number > ? and s.roll_number <= ? "
+                        + "order by s.roll_number, b.bill_date, b.bill_id",
+                rs -> {
+                    String rollNumber = rs.getString(1);
+                    StudentStatement current = statements.isEmpty() ? null : statements.get(statements.size() - 1);
+                    if (current == null || !current.getRollNumber().equals(rollNumber)) {
+                        current = new StudentStatement(rollNumber, rs.getString(2), rs.getString(3));
+                        statements.add(current);
+                    }
+                    current.getLines().add(new StudentStatement.Line(
+                            rs.getLong(4),
+                            rs.getString(5),
+                            rs.getDouble(6),
+                            rs.getObject(7, LocalDate.class),
+                            rs.getObject(8, LocalDate.class),
+                            rs.getDouble(9)));
+                },
+                domainId, after, last);
+        return statements;
+    }
+}
@@ -0,0 +1,11 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Entity.StatementReviewItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface StatementReviewItemRepository extends JpaRepository<StatementReviewItem, Long> {
+
+    List<StatementReviewItem> findByResolvedFalseOrderByIdAsc();
+}
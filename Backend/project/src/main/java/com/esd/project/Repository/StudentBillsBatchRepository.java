@@ -0,0 +1,113 @@
+package com.esd.project.Repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+// Multi-row inserts into student_bills; joins the caller's transaction.
+// Pairs that already exist are skipped by the uk_student_bills_student_bill constraint,
+// so concurrent assignments never create duplicates and need no existence check first.
+@Repository
+public class StudentBillsBatchRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentBillsBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Locks the bill rows until the transaction ends, in id order so concurrent callers cannot deadlock.
+    // Every insert into student_bills checks its foreign key with a shared lock on the bill row (InnoDB),
+    // so while this is held no other transaction can give these bills to anyone.
+    public void lockBills(List<Long> billIds) {
+        StringBuilder sql = new StringBuilder("select bill_id from bills where bill_id in (");
+        for (int i = 0; i < billIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(") order by bill_id for update");
+        jdbcTemplate.queryForList(sql.toString(), Long.class, billIds.toArray());
+    }
+
+    // [studentId, billId] of every current holder of the bills. A locking read, so it sees the latest
+    // committed rows even under REPEATABLE READ, where a plain select would use the transaction's snapshot.
+    public List<Object[]> lockHolders(List<Long> billIds) {
+        StringBuilder sql = new StringBuilder("select student_id, bill_id from student_bills where bill_id in (");
+        for (int i = 0; i < billIds.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(") for update");
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2)}, billIds.toArray());
+    }
+
+    // Returns the new row's id, or null when the student already holds the bill
+    public Long insertIgnore(Long studentId, Long billId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int inserted = jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "insert ignore into student_bills (student_id, bill_id) values (?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, studentId);
+            ps.setLong(2, billId);
+            return ps;
+        }, keyHolder);
+
+        if (inserted == 0 || keyHolder.getKey() == null) {
+            return null;
+        }
+        return keyHolder.getKey().longValue();
+    }
+
+    // One statement per [studentId, billId] pair in a JDBC batch, so each pair reports
+    // whether it was inserted (1) or already present (0).
+    // Relies on Connector/J's default rewriteBatchedStatements=false, which keeps per-statement counts.
+    public int[] insertIgnoreEach(List<Object[]> pairs) {
+        return jdbcTemplate.batchUpdate("insert ignore into student_bills (student_id, bill_id) values (?, ?)", pairs);
+    }
+
+    // Returns the number of rows inserted
+    public int insertAll(Long billId, List<Long> studentIds) {
+        int inserted = 0;
+        for (int from = 0; from < studentIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = studentIds.subList(from, Math.min(from + CHUNK_SIZE, studentIds.size()));
+
+            StringBuilder sql = new StringBuilder("insert ignore into student_bills (student_id, bill_id) values ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                args[i * 2] = chunk.get(i);
+                args[i * 2 + 1] = billId;
+            }
+
+            inserted += jdbcTemplate.update(sql.toString(), args);
+        }
+        return inserted;
+    }
+
+    // [studentId, billId] pairs across several bills, in chunks of CHUNK_SIZE rows per statement.
+    // Returns the number of rows inserted
+    public int insertPairs(List<Object[]> pairs) {
+        int inserted = 0;
+        for (int from = 0; from < pairs.size(); from += CHUNK_SIZE) {
+            List<Object[]> chunk = pairs.subList(from, Math.min(from + CHUNK_SIZE, pairs.size()));
+
+            StringBuilder sql = new StringBuilder("insert ignore into student_bills (student_id, bill_id) values ");
+            Object[] args = new Object[chunk.size() * 2];
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+                args[i * 2] = chunk.get(i)[0];
+                args[i * 2 + 1] = chunk.get(i)[1];
+            }
+
+            inserted += jdbcTemplate.update(sql.toString(), args);
+        }
+        return inserted;
+    }
+}
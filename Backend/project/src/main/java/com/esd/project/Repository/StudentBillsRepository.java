@@ -2,6 +2,11 @@ package com.esd.project.Repository;
 
 import com.esd.project.Entity.StudentBills;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentBillsRepository extends JpaRepository<StudentBills, Long> {
@@ -12,7 +17,49 @@ public interface StudentBillsRepository extends JpaRepository<StudentBills, Long
 
     StudentBills findByStudent_RollNumberAndBill_BillId(String rollNumber, Long billId);
 
-    boolean existsByStudent_StudentIdAndBill_BillId(Long studentId, Long billId);
-
     void deleteByBill_BillId(Long billId);
+
+    @Query("select sb from StudentBills sb "
+            + "where sb.bill.billId = :billId and sb.student.domain.domainId = :domainId")
+    List<StudentBills> findByDomainAndBill(@Param("domainId") Long domainId, @Param("billId") Long billId);
+
+    @Query("select count(sb) from StudentBills sb "
+            + "where sb.bill.billId = :billId and sb.student.domain.domainId = :domainId")
+    long countByDomainAndBill(@Param("domainId") Long domainId, @Param("billId") Long billId);
+
+    List<StudentBills> findByBill_BillIdAndStudent_StudentIdIn(Long billId, Collection<Long> studentIds);
+
+    @Query("select sb from StudentBills sb "
+            + "where sb.student.studentId in :studentIds and sb.bill.billId in :billIds")
+    List<StudentBills> findByStudentsAndBills(@Param("studentIds") Collection<Long> studentIds,
+                                              @Param("billIds") Collection<Long> billIds);
+
+    // Removes a bill from every student of a domain in one statement
+    @Modifying(flushAutomatically = true)
+    @Query("delete from StudentBills sb where sb.bill.billId = :billId and sb.student.studentId in "
+            + "(select s.studentId from Student s where s.domain.domainId = :domainId)")
+    int deleteByDomainAndBill(@Param("domainId") Long domainId, @Param("billId") Long billId);
+
+    // Re-targets a domain's assignments to another bill in one statement.
+    // Students who already hold the target bill are left to dropDuplicatesAfterTransfer.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "update student_bills sb "
+            + "join student s on s.student_id = sb.student_id "
+            + "left join student_bills existing on existing.student_id = sb.student_id and existing.bill_id = :toBillId "
+            + "set sb.bill_id = :toBillId "
+            + "where sb.bill_id = :fromBillId and s.domain = :domainId and existing.id is null",
+            nativeQuery = true)
+    int transferByDomain(@Param("domainId") Long domainId,
+                         @Param("fromBillId") Long fromBillId,
+                         @Param("toBillId") Long toBillId);
+
+    // Run after transferByDomain: the domain's rows still on the source bill belong to students who
+    // already hold the target, so they would be billed twice. Rows with payments recorded stay.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from student_bills "
+            + "where bill_id = :fromBillId "
+            + "and student_id in (select s.student_id from student s where s.domain = :domainId) "
+            + "and not exists (select 1 from payments p where p.student_bill_id = student_bills.id)",
+            nativeQuery = true)
+    int dropDuplicatesAfterTransfer(@Param("domainId") Long domainId, @Param("fromBillId") Long fromBillId);
 }
@@ -2,11 +2,21 @@ package com.esd.project.Repository;
 
 import com.esd.project.Entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
 
     Student findByRollNumber(String rollNumber);
     List<Student> findByDomain_DomainId(Long domainId);
+    long countByDomain_DomainId(Long domainId);
+    List<Student> findByRollNumberIn(Collection<String> rollNumbers);
+
+    // [studentId, domainName] pairs for several domains in one query
+    @Query("select s.studentId, d.domainName from Student s join s.domain d where d.domainName in :domainNames")
+    List<Object[]> findStudentIdsByDomainNames(@Param("domainNames") Collection<String> domainNames);
 
 }
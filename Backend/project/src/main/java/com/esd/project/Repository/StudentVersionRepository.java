@@ -0,0 +1,81 @@
+package com.esd.project.Repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+// Per-student change counters behind the ETag of a student's bill list.
+// A missing row means version 0; every bump is one upsert statement in the caller's transaction.
+@Repository
+public class StudentVersionRepository {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StudentVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // [studentId, version, hash of name and email] for a roll number, or null when there is no such student.
+    // Student rows are edited outside this application without a version bump, so the listed
+    // student fields are hashed into the ETag directly.
+    public long[] findByRollNumber(String rollNumber) {
+        List<long[]> rows = jdbcTemplate.query("select s.student_id, coalesce(v.version, 0), s.name, s.email "
+                        + "from student s "
+                        + "left join student_bill_versions v on v.student_id = s.student_id "
+                        + "where s.roll_number = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2),
+                        Objects.hash(rs.getString(3), rs.getString(4))},
+                rollNumber);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    public void bumpStudents(Collection<Long> studentIds) {
+        List<Long> ids = List.copyOf(studentIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+
+            StringBuilder sql = new StringBuilder("insert into student_bill_versions (student_id, version) values ");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, 1)" : ", (?, 1)");
+            }
+            sql.append(" on duplicate key update version = version + 1");
+            jdbcTemplate.update(sql.toString(), chunk.toArray());
+        }
+    }
+
+    // Everyone currently holding the bill
+    public void bumpHoldersOfBill(Long billId) {
+        jdbcTemplate.update("insert into student_bill_versions (student_id, version) "
+                + "select sb.student_id, 1 from student_bills sb where sb.bill_id = ? "
+                + "on duplicate key update version = version + 1", billId);
+    }
+
+    // Everyone holding any of the bills, one statement per chunk of bills
+    public void bumpHoldersOfBills(Collection<Long> billIds) {
+        List<Long> ids = List.copyOf(billIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+
+            StringBuilder sql = new StringBuilder("insert into student_bill_versions (student_id, version) "
+                    + "select distinct sb.student_id, 1 from student_bills sb where sb.bill_id in (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(") on duplicate key update version = version + 1");
+            jdbcTemplate.update(sql.toString(), chunk.toArray());
+        }
+    }
+
+    // Everyone in the domain, for set-based changes that do not report which students they touched
+    public void bumpDomain(String domainName) {
+        jdbcTemplate.update("insert into student_bill_versions (student_id, version) "
+                + "select s.student_id, 1 from student s join domain d on d.domain_id = s.domain "
+                + "where d.domain_name = ? "
+                + "on duplicate key update version = version + 1", domainName);
+    }
+}
@@ -0,0 +1,192 @@
+package com.esd.project.Service;
+
+import com.esd.project.DTO.Request.BatchRequest;
+import com.esd.project.DTO.Response.BatchResponse;
+import com.esd.project.DTO.Response.BillResponse;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Exception.ResourceNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Runs an ordered list of bill/assignment operations in one request.
+//   ALL_OR_NOTHING    - one transaction; the first failure rolls back every operation
+//   CONTINUE_ON_ERROR - each operation commits on its own; failures are reported and skipped
+// Change events only go out for work that was committed.
+@Service
+public class BatchService {
+
+    private static final String OK = "OK";
+    private static final String ERROR = "ERROR";
+    private static final String ROLLED_BACK = "ROLLED_BACK";
+    private static final String SKIPPED = "SKIPPED";
+
+    private final BillsService billsService;
+    private final StudentBillsService studentBillsService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+
+    public BatchService(BillsService billsService,
+                        StudentBillsService studentBillsService,
+                        TransactionTemplate transactionTemplate,
+                        Validator validator) {
+        this.billsService = billsService;
+        this.studentBillsService = studentBillsService;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+    }
+
+    public BatchResponse execute(BatchRequest request) {
+
+        List<BatchRequest.Operation> operations = request.getOperations();
+        BatchRequest.Mode mode = request.getMode() != null ? request.getMode() : BatchRequest.Mode.ALL_OR_NOTHING;
+
+        List<BatchResponse.OperationResult> results = new ArrayList<>(operations.size());
+        Long[] createdBillIds = new Long[operations.size()];
+
+        if (mode == BatchRequest.Mode.CONTINUE_ON_ERROR) {
+            for (int i = 0; i < operations.size(); i++) {
+                int index = i;
+                try {
+                    results.add(transactionTemplate.execute(status -> {
+                        BatchResponse.OperationResult result = run(index, operations.get(index), createdBillIds);
+                        if (!OK.equals(result.getStatus())) {
+                            status.setRollbackOnly();
+                        }
+                        return result;
+                    }));
+                } catch (DataIntegrityViolationException ex) {
+                    // Constraint hit while committing
+                    createdBillIds[index] = null;
+                    results.add(failure(index, operations.get(index), HttpStatus.CONFLICT,
+                            "Duplicate entry: This record already exists"));
+                }
+            }
+        } else {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < operations.size(); i++) {
+                    BatchResponse.OperationResult result = run(i, operations.get(i), createdBillIds);
+                    results.add(result);
+                    if (!OK.equals(result.getStatus())) {
+                        status.setRollbackOnly();
+                        break;
+                    }
+                }
+            });
+
+            int failedAt = results.size() - 1;
+            if (!OK.equals(results.get(failedAt).getStatus())) {
+                for (int i = 0; i < failedAt; i++) {
+                    BatchResponse.OperationResult done = results.get(i);
+                    done.setStatus(ROLLED_BACK);
+                    done.setResult(null);
+                }
+                for (int i = failedAt + 1; i < operations.size(); i++) {
+                    results.add(new BatchResponse.OperationResult(
+                            i, operations.get(i).getOp(), SKIPPED, null, null, null));
+                }
+            }
+        }
+
+        int succeeded = (int) results.stream().filter(result -> OK.equals(result.getStatus())).count();
+        int failed = (int) results.stream().filter(result -> ERROR.equals(result.getStatus())).count();
+        return new BatchResponse(mode, succeeded, failed, results);
+    }
+
+    private BatchResponse.OperationResult run(int index, BatchRequest.Operation operation, Long[] createdBillIds) {
+        try {
+            Object result = dispatch(operation, createdBillIds, index);
+            return new BatchResponse.OperationResult(index, operation.getOp(), OK, HttpStatus.OK.value(), result, null);
+        } catch (ResourceNotFoundException ex) {
+            return failure(index, operation, HttpStatus.NOT_FOUND, ex.getMessage());
+        } catch (BusinessException ex) {
+            return failure(index, operation, HttpStatus.BAD_REQUEST, ex.getMessage());
+        } catch (DataIntegrityViolationException ex) {
+            return failure(index, operation, HttpStatus.CONFLICT, "Duplicate entry: This record already exists");
+        }
+    }
+
+    private Object dispatch(BatchRequest.Operation operation, Long[] createdBillIds, int index) {
+        switch (operation.getOp()) {
+            case ADD_BILL: {
+                validate(operation.getBill(), "bill");
+                BillResponse created = billsService.addBill(operation.getBill());
+                createdBillIds[index] = created.getBillId();
+                return created;
+            }
+            case UPDATE_BILL:
+                validate(operation.getUpdate(), "update");
+                return billsService.updateBillPartially(billId(operation, createdBillIds, index), operation.getUpdate());
+            case DELETE_BILL:
+                billsService.deleteBillEverywhere(billId(operation, createdBillIds, index));
+                return null;
+            case ASSIGN_TO_ROLL:
+                return studentBillsService.assignBillToStudent(
+                        required(operation.getRollNumber(), "rollNumber"), billId(operation, createdBillIds, index));
+            case ASSIGN_TO_DOMAIN:
+                return studentBillsService.assignBillToDomain(
+                        required(operation.getDomain(), "domain"), billId(operation, createdBillIds, index));
+            case UNASSIGN_FROM_ROLL:
+                studentBillsService.deleteSpecificBillForStudent(
+                        required(operation.getRollNumber(), "rollNumber"), billId(operation, createdBillIds, index));
+                return null;
+            case UNASSIGN_ALL_FROM_ROLL:
+                studentBillsService.deleteBillsByRollNumber(required(operation.getRollNumber(), "rollNumber"));
+                return null;
+            case UNASSIGN_FROM_DOMAIN:
+                return Map.of("removed", studentBillsService.unassignBillFromDomain(
+                        required(operation.getDomain(), "domain"), billId(operation, createdBillIds, index)));
+            default:
+                throw new BusinessException("Unsupported operation: " + operation.getOp());
+        }
+    }
+
+    // Either an explicit billId or a reference to a bill added earlier in the same batch
+    private static Long billId(BatchRequest.Operation operation, Long[] createdBillIds, int index) {
+        if (operation.getBillRef() != null) {
+            int ref = operation.getBillRef();
+            if (ref < 0 || ref >= index || createdBillIds[ref] == null) {
+                throw new BusinessException("billRef " + ref + " does not point to an earlier successful ADD_BILL");
+            }
+            return createdBillIds[ref];
+        }
+        if (operation.getBillId() == null) {
+            throw new BusinessException("billId or billRef is required for " + operation.getOp());
+        }
+        return operation.getBillId();
+    }
+
+    private static String required(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new BusinessException(field + " is required");
+        }
+        return value;
+    }
+
+    private void validate(Object body, String field) {
+        if (body == null) {
+            throw new BusinessException(field + " is required");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(body);
+        if (!violations.isEmpty()) {
+            throw new BusinessException("Validation failed: " + violations.stream()
+                    .map(violation -> field + "." + violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static BatchResponse.OperationResult failure(int index, BatchRequest.Operation operation,
+                                                         HttpStatus status, String message) {
+        return new BatchResponse.OperationResult(index, operation.getOp(), ERROR, status.value(), null, message);
+    }
+}
@@ -0,0 +1,186 @@
+package com.esd.project.Service;
+
+import com.esd.project.DTO.Request.BillTemplateRequest;
+import com.esd.project.DTO.Request.TermGenerationRequest;
+import com.esd.project.DTO.Response.BillTemplateResponse;
+import com.esd.project.DTO.Response.TermGenerationResponse;
+import com.esd.project.Entity.BillTemplate;
+import com.esd.project.Entity.BillTemplateRun;
+import com.esd.project.Entity.Bills;
+import com.esd.project.Entity.Domain;
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Exception.ResourceNotFoundException;
+import com.esd.project.Mapper.BillTemplateMapper;
+import com.esd.project.Repository.BillTemplateRepository;
+import com.esd.project.Repository.BillTemplateRunRepository;
+import com.esd.project.Repository.BillsRepository;
+import com.esd.project.Repository.DomainRepository;
+import com.esd.project.Repository.NotificationOutboxRepository;
+import com.esd.project.Repository.StudentBillsBatchRepository;
+import com.esd.project.Repository.StudentRepository;
+import com.esd.project.Timing.TimedMapping;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class BillTemplateService {
+
+    private final BillTemplateRepository templateRepository;
+    private final BillTemplateRunRepository runRepository;
+    private final BillsRepository billsRepository;
+    private final DomainRepository domainRepository;
+    private final StudentRepository studentRepository;
+    private final StudentBillsBatchRepository batchRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BillTemplateService(BillTemplateRepository templateRepository,
+                               BillTemplateRunRepository runRepository,
+                               BillsRepository billsRepository,
+                               DomainRepository domainRepository,
+                               StudentRepository studentRepository,
+                               StudentBillsBatchRepository batchRepository,
+                               NotificationOutboxRepository outboxRepository,
+                               ApplicationEventPublisher eventPublisher) {
+        this.templateRepository = templateRepository;
+        this.runRepository = runRepository;
+        this.billsRepository = billsRepository;
+        this.domainRepository = domainRepository;
+        this.studentRepository = studentRepository;
+        this.batchRepository = batchRepository;
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public BillTemplateResponse addTemplate(BillTemplateRequest request) {
+        if (request.getDeadlineOffsetDays() < request.getBillDateOffsetDays()) {
+            throw new BusinessException("Deadline offset cannot be before the bill date offset");
+        }
+
+        Set<String> requested = new LinkedHashSet<>(request.getDomains());
+        Set<String> found = domainRepository.findByDomainNameIn(requested).stream()
+                .map(Domain::getDomainName)
+                .collect(Collectors.toSet());
+        if (found.size() < requested.size()) {
+            List<String> missing = requested.stream()
+                    .filter(name -> !found.contains(name))
+                    .collect(Collectors.toList());
+            throw new ResourceNotFoundException("Domains not found: " + String.join(", ", missing));
+        }
+
+        BillTemplate saved = templateRepository.save(BillTemplateMapper.toEntity(request));
+        return TimedMapping.map(saved, BillTemplateMapper::toResponse);
+    }
+
+    public List<BillTemplateResponse> getAllTemplates() {
+        return TimedMapping.mapAll(templateRepository.findAll(), BillTemplateMapper::toResponse);
+    }
+
+    @Transactional
+    public void deactivateTemplate(Long templateId) {
+        BillTemplate template = templateRepository.findById(templateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bill template not found with ID: " + templateId));
+        template.setActive(false);
+    }
+
+    // Create the term's bills and assign them to every student of their domains.
+    // Templates already generated for the term are skipped, so re-running is safe.
+    @Transactional
+    public TermGenerationResponse generateTerm(TermGenerationRequest request) {
+
+        String term = request.getTerm().trim();
+
+        List<BillTemplate> templates = templateRepository.findByActiveTrue();
+        Set<Long> alreadyGenerated = runRepository.findTemplateIdsByTerm(term);
+
+        List<BillTemplate> pending = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (BillTemplate template : templates) {
+            if (alreadyGenerated.contains(template.getTemplateId())) {
+                skipped.add(template.getTemplateId());
+            } else {
+                pending.add(template);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return new TermGenerationResponse(term, List.of(), skipped, 0);
+        }
+
+        // Resolve every domain's students once for the whole run
+        Set<String> domainNames = new HashSet<>();
+        pending.forEach(template -> domainNames.addAll(template.getDomainNames()));
+
+        Map<String, List<Long>> studentsByDomain = new HashMap<>();
+        for (Object[] row : studentRepository.findStudentIdsByDomainNames(domainNames)) {
+            studentsByDomain.computeIfAbsent((String) row[1], name -> new ArrayList<>()).add((Long) row[0]);
+        }
+
+        List<Bills> bills = billsRepository.saveAll(pending.stream()
+                .map(template -> BillTemplateMapper.toBill(template, term, request.getTermStart()))
+                .collect(Collectors.toList()));
+
+        // Claim the term for each template before inserting assignments.
+        // A concurrent run for the same term fails here on the unique constraint and rolls back.
+        LocalDateTime now = LocalDateTime.now();
+        List<BillTemplateRun> runs = new ArrayList<>();
+        for (int i = 0; i < pending.size(); i++) {
+            BillTemplateRun run = new BillTemplateRun();
+            run.setTemplate(pending.get(i));
+            run.setTerm(term);
+            run.setBillId(bills.get(i).getBillId());
+            run.setGeneratedAt(now);
+            runs.add(run);
+        }
+        try {
+            runRepository.saveAllAndFlush(runs);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessException("Term already generated or being generated: " + term);
+        }
+
+        List<TermGenerationResponse.GeneratedBill> generated = new ArrayList<>();
+        int totalAssignments = 0;
+
+        for (int i = 0; i < pending.size(); i++) {
+            BillTemplate template = pending.get(i);
+            Bills bill = bills.get(i);
+            eventPublisher.publishEvent(ChangeEvent.bill(ChangeEventType.BILL_ADDED, bill.getBillId()));
+
+            int assignments = 0;
+            Set<Long> seen = new LinkedHashSet<>();
+            for (String domainName : new LinkedHashSet<>(template.getDomainNames())) {
+                List<Long> studentIds = studentsByDomain.getOrDefault(domainName, List.of()).stream()
+                        .filter(seen::add)
+                        .collect(Collectors.toList());
+                if (studentIds.isEmpty()) {
+                    continue;
+                }
+
+                assignments += batchRepository.insertAll(bill.getBillId(), studentIds);
+                outboxRepository.enqueueAssignments(bill.getBillId(), studentIds);
+                eventPublisher.publishEvent(ChangeEvent.domain(
+                        ChangeEventType.ASSIGNMENT_ADDED, bill.getBillId(), domainName, studentIds));
+            }
+
+            totalAssignments += assignments;
+            generated.add(new TermGenerationResponse.GeneratedBill(
+                    template.getTemplateId(), bill.getBillId(), bill.getDescription(), assignments));
+        }
+
+        return new TermGenerationResponse(term, generated, skipped, totalAssignments);
+    }
+}
@@ -1,46 +1,180 @@
 package com.esd.project.Service;
 
+import com.esd.project.DTO.Request.BillFilterRequest;
 import com.esd.project.DTO.Request.BillRequest;
 import com.esd.project.DTO.Request.BillUpdateRequest;
+import com.esd.project.DTO.Request.BulkBillUpdateRequest;
 import com.esd.project.DTO.Response.BillResponse;
+import com.esd.project.DTO.Response.BillStudentsCompactResponse;
+import com.esd.project.DTO.Response.BillStudentsPageResponse;
+import com.esd.project.DTO.Response.BillStudentsSummaryResponse;
 import com.esd.project.Entity.Bills;
+import com.esd.project.Entity.Domain;
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
+import com.esd.project.Exception.BusinessException;
 import com.esd.project.Exception.ResourceNotFoundException;
 import com.esd.project.Mapper.BillMapper;
+import com.esd.project.Projection.BillField;
+import com.esd.project.Projection.FieldSet;
+import com.esd.project.Projection.ProjectedRow;
+import com.esd.project.Projection.ProjectedRows;
+import com.esd.project.Repository.BillSpecifications;
+import com.esd.project.Repository.BillStudentsRepository;
+import com.esd.project.Repository.BillsBulkRepository;
 import com.esd.project.Repository.BillsRepository;
+import com.esd.project.Repository.DomainRepository;
+import com.esd.project.Repository.FeeBundleRepository;
+import com.esd.project.Repository.ProjectionRepository;
 import com.esd.project.Repository.StudentBillsRepository;
+import com.esd.project.Repository.StudentVersionRepository;
+import com.esd.project.Timing.TimedMapping;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class BillsService {
 
     private final BillsRepository billsRepository;
+    private final BillsBulkRepository billsBulkRepository;
     private final StudentBillsRepository studentBillsRepository;
+    private final ProjectionRepository projectionRepository;
+    private final BillStudentsRepository billStudentsRepository;
+    private final DomainRepository domainRepository;
+    private final StudentVersionRepository studentVersionRepository;
+    private final FeeBundleRepository feeBundleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BillsService(BillsRepository billsRepository, StudentBillsRepository studentBillsRepository) {
+    public BillsService(BillsRepository billsRepository,
+                        BillsBulkRepository billsBulkRepository,
+                        StudentBillsRepository studentBillsRepository,
+                        ProjectionRepository projectionRepository,
+                        BillStudentsRepository billStudentsRepository,
+                        DomainRepository domainRepository,
+                        StudentVersionRepository studentVersionRepository,
+                        FeeBundleRepository feeBundleRepository,
+                        ApplicationEventPublisher eventPublisher) {
         this.billsRepository = billsRepository;
+        this.billsBulkRepository = billsBulkRepository;
         this.studentBillsRepository = studentBillsRepository;
+        this.projectionRepository = projectionRepository;
+        this.billStudentsRepository = billStudentsRepository;
+        this.domainRepository = domainRepository;
+        this.studentVersionRepository = studentVersionRepository;
+        this.feeBundleRepository = feeBundleRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public BillResponse addBill(BillRequest request) {
         Bills bill = BillMapper.toEntity(request);
         Bills savedBill = billsRepository.save(bill);
-        return BillMapper.toResponse(savedBill);
+        eventPublisher.publishEvent(ChangeEvent.bill(ChangeEventType.BILL_ADDED, savedBill.getBillId()));
+        return TimedMapping.map(savedBill, BillMapper::toResponse);
     }
 
     public List<BillResponse> getAllBills() {
-        return billsRepository.findAll().stream()
-                .map(BillMapper::toResponse)
-                .collect(Collectors.toList());
+        return TimedMapping.mapAll(billsRepository.findAll(), BillMapper::toResponse);
+    }
+
+    public ProjectedRows getAllBills(String fields) {
+        return projectionRepository.findAllBills(FieldSet.parse(BillField.class, fields));
+    }
+
+    // Bills matching date/amount ranges, sorted and capped at the requested limit (no count query)
+    public List<BillResponse> filterBills(BillFilterRequest filter) {
+        checkRange(filter.getBillDateFrom(), filter.getBillDateTo(), "billDate");
+        checkRange(filter.getDeadlineFrom(), filter.getDeadlineTo(), "deadline");
+        checkRange(filter.getMinAmount(), filter.getMaxAmount(), "amount");
+
+        Sort sort = Sort.by(Sort.Direction.fromString(filter.getDirection()), filter.getSortBy())
+                .and(Sort.by("billId"));
+
+        return TimedMapping.mapAll(billsRepository.findBy(BillSpecifications.matching(filter, LocalDate.now()),
+                query -> query.sortBy(sort).limit(filter.getLimit()).all()), BillMapper::toResponse);
+    }
+
+    private static <T extends Comparable<? super T>> void checkRange(T from, T to, String field) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            throw new BusinessException("Invalid " + field + " range: lower bound is after upper bound");
+        }
     }
 
     public BillResponse getBillById(Long billId) {
         Bills bill = billsRepository.findById(billId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
-        return BillMapper.toResponse(bill);
+        return TimedMapping.map(bill, BillMapper::toResponse);
+    }
+
+    public ProjectedRow getBillById(Long billId, String fields) {
+        return projectionRepository.findBillById(billId, FieldSet.parse(BillField.class, fields))
+                .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
+    }
+
+    // Students holding a bill, in student id order, one page after the given student id.
+    // overdue keeps only students who have not paid in full once the deadline has passed.
+    public BillStudentsPageResponse getStudentsForBill(Long billId, Long after, int limit,
+                                                       String domainName, boolean overdue) {
+        if (limit < 1 || limit > 500) {
+            throw new BusinessException("limit must be between 1 and 500");
+        }
+
+        Bills bill = billsRepository.findById(billId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
+
+        Long domainId = resolveDomainId(domainName);
+
+        if (overdue && !bill.getDeadline().isBefore(LocalDate.now())) {
+            return new BillStudentsPageResponse(billId, List.of(), null);
+        }
+
+        return billStudentsRepository.findPage(billId, after, domainId, overdue ? bill.getAmount() : null, limit);
+    }
+
+    // The same page as parallel arrays, filled straight from the result set
+    public BillStudentsCompactResponse getStudentsForBillCompact(Long billId, Long after, int limit,
+                                                                 String domainName, boolean overdue) {
+        if (limit < 1 || limit > 500) {
+            throw new BusinessException("limit must be between 1 and 500");
+        }
+
+        Bills bill = billsRepository.findById(billId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
+
+        Long domainId = resolveDomainId(domainName);
+
+        if (overdue && !bill.getDeadline().isBefore(LocalDate.now())) {
+            return new BillStudentsCompactResponse(billId, List.of(), List.of(), List.of(), List.of(), null);
+        }
+
+        return billStudentsRepository.findCompactPage(billId, after, domainId, overdue ? bill.getAmount() : null, limit);
+    }
+
+    // Only the number of students matching the filters
+    public BillStudentsSummaryResponse getStudentsForBillSummary(Long billId, String domainName, boolean overdue) {
+        Bills bill = billsRepository.findById(billId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
+        Long domainId = resolveDomainId(domainName);
+
+        long students = overdue && !bill.getDeadline().isBefore(LocalDate.now())
+                ? 0
+                : billStudentsRepository.count(billId, domainId, overdue ? bill.getAmount() : null);
+        return new BillStudentsSummaryResponse(billId, domainName, overdue, students);
+    }
+
+    private Long resolveDomainId(String domainName) {
+        if (domainName == null) {
+            return null;
+        }
+        Domain domain = domainRepository.findByDomainName(domainName);
+        if (domain == null) {
+            throw new ResourceNotFoundException("Domain not found: " + domainName);
+        }
+        return domain.getDomainId();
     }
 
     @Transactional
@@ -50,18 +184,51 @@ public class BillsService {
 
         BillMapper.updateEntityFromRequest(existing, request);
         Bills updatedBill = billsRepository.save(existing);
-        return BillMapper.toResponse(updatedBill);
+        eventPublisher.publishEvent(ChangeEvent.bill(ChangeEventType.BILL_UPDATED, billId));
+        return TimedMapping.map(updatedBill, BillMapper::toResponse);
+    }
+
+    // The same partial update for every bill matching the filter, applied as one UPDATE statement.
+    // Cached bill data is invalidated once for all of them through a single BILLS_UPDATED event.
+    @Transactional
+    public int updateBillsMatching(BulkBillUpdateRequest request) {
+        BillUpdateRequest patch = request.getUpdate();
+        if (patch.getDescription() == null && patch.getAmount() == null
+                && patch.getBillDate() == null && patch.getDeadline() == null) {
+            throw new BusinessException("Update must set at least one field");
+        }
+
+        boolean hasIds = request.getBillIds() != null && !request.getBillIds().isEmpty();
+        boolean hasPrefix = request.getDescriptionPrefix() != null && !request.getDescriptionPrefix().isEmpty();
+        if (!hasIds && !hasPrefix && request.getBillDateFrom() == null && request.getBillDateTo() == null) {
+            throw new BusinessException(
+                    "At least one of billIds, billDateFrom, billDateTo or descriptionPrefix is required");
+        }
+        checkRange(request.getBillDateFrom(), request.getBillDateTo(), "billDate");
+
+        List<Long> billIds = billsBulkRepository.lockMatching(request);
+        if (billIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = billsBulkRepository.updateAll(billIds, patch);
+        eventPublisher.publishEvent(ChangeEvent.bills(ChangeEventType.BILLS_UPDATED, billIds));
+        return updated;
     }
 
     @Transactional
     public void deleteBillEverywhere(Long billId) {
+        // While the assignments still exist, so their students' cached lists are invalidated
+        studentVersionRepository.bumpHoldersOfBill(billId);
         studentBillsRepository.deleteByBill_BillId(billId);
 
         if (!billsRepository.existsById(billId)) {
             throw new ResourceNotFoundException("Bill not found with ID: " + billId);
         }
 
+        feeBundleRepository.removeBillFromBundles(billId);
         billsRepository.deleteById(billId);
+        eventPublisher.publishEvent(ChangeEvent.bill(ChangeEventType.BILL_DELETED, billId));
     }
 }
 
@@ -0,0 +1,197 @@
+package com.esd.project.Service;
+
+import com.esd.project.DTO.Request.FeeBundleRequest;
+import com.esd.project.DTO.Response.BundleAssignmentResponse;
+import com.esd.project.DTO.Response.FeeBundleResponse;
+import com.esd.project.Entity.Bills;
+import com.esd.project.Entity.Domain;
+import com.esd.project.Entity.FeeBundle;
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Exception.ResourceNotFoundException;
+import com.esd.project.Index.AssignmentIndex;
+import com.esd.project.Mapper.FeeBundleMapper;
+import com.esd.project.Repository.BillsRepository;
+import com.esd.project.Repository.DomainRepository;
+import com.esd.project.Repository.FeeBundleRepository;
+import com.esd.project.Repository.NotificationOutboxRepository;
+import com.esd.project.Repository.StudentBillsBatchRepository;
+import com.esd.project.Repository.StudentBillsRepository;
+import com.esd.project.Repository.StudentRepository;
+import com.esd.project.Timing.TimedMapping;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class FeeBundleService {
+
+    private final FeeBundleRepository bundleRepository;
+    private final BillsRepository billsRepository;
+    private final DomainRepository domainRepository;
+    private final StudentRepository studentRepository;
+    private final StudentBillsRepository studentBillsRepository;
+    private final StudentBillsBatchRepository batchRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final AssignmentIndex assignmentIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public FeeBundleService(FeeBundleRepository bundleRepository,
+                            BillsRepository billsRepository,
+                            DomainRepository domainRepository,
+                            StudentRepository studentRepository,
+                            StudentBillsRepository studentBillsRepository,
+                            StudentBillsBatchRepository batchRepository,
+                            NotificationOutboxRepository outboxRepository,
+                            AssignmentIndex assignmentIndex,
+                            ApplicationEventPublisher eventPublisher) {
+        this.bundleRepository = bundleRepository;
+        this.billsRepository = billsRepository;
+        this.domainRepository = domainRepository;
+        this.studentRepository = studentRepository;
+        this.studentBillsRepository = studentBillsRepository;
+        this.batchRepository = batchRepository;
+        this.outboxRepository = outboxRepository;
+        this.assignmentIndex = assignmentIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public FeeBundleResponse addBundle(FeeBundleRequest request) {
+        String name = request.getName().trim();
+        if (bundleRepository.existsByName(name)) {
+            throw new BusinessException("Fee bundle already exists: " + name);
+        }
+
+        Set<Long> billIds = new LinkedHashSet<>(request.getBillIds());
+        List<Bills> bills = billsRepository.findAllById(billIds);
+        if (bills.size() < billIds.size()) {
+            Set<Long> found = bills.stream().map(Bills::getBillId).collect(Collectors.toSet());
+            List<String> missing = billIds.stream()
+                    .filter(billId -> !found.contains(billId))
+                    .map(String::valueOf)
+                    .collect(Collectors.toList());
+            throw new ResourceNotFoundException("Bills not found: " + String.join(", ", missing));
+        }
+
+        FeeBundle bundle = new FeeBundle();
+        bundle.setName(name);
+        bundle.setBills(new ArrayList<>(bills));
+        return TimedMapping.map(bundleRepository.save(bundle), FeeBundleMapper::toResponse);
+    }
+
+    public List<FeeBundleResponse> getAllBundles() {
+        return TimedMapping.mapAll(bundleRepository.findAll(), FeeBundleMapper::toResponse);
+    }
+
+    // Removes the bundle only; its bills and their assignments stay
+    @Transactional
+    public void deleteBundle(Long bundleId) {
+        if (!bundleRepository.existsById(bundleId)) {
+            throw new ResourceNotFoundException("Fee bundle not found with ID: " + bundleId);
+        }
+        bundleRepository.deleteById(bundleId);
+    }
+
+    // Assign every bill of the bundle to every student of the domains.
+    // Students are resolved once and all (student, bill) pairs are inserted in multi-row chunks.
+    @Transactional
+    public BundleAssignmentResponse assignBundle(Long bundleId, List<String> domainNames) {
+
+        FeeBundle bundle = bundleRepository.findById(bundleId)
+                .orElseThrow(() -> new ResourceNotFoundException("Fee bundle not found with ID: " + bundleId));
+        List<Bills> bills = bundle.getBills();
+        if (bills.isEmpty()) {
+            throw new BusinessException("Fee bundle has no bills: " + bundle.getName());
+        }
+
+        Set<String> requested = new LinkedHashSet<>(domainNames);
+        Map<String, Domain> domainsByName = new HashMap<>();
+        domainRepository.findByDomainNameIn(requested)
+                .forEach(domain -> domainsByName.put(domain.getDomainName(), domain));
+        if (domainsByName.size() < requested.size()) {
+            List<String> missing = requested.stream()
+                    .filter(name -> !domainsByName.containsKey(name))
+                    .collect(Collectors.toList());
+            throw new ResourceNotFoundException("Domains not found: " + String.join(", ", missing));
+        }
+
+        Map<String, List<Long>> studentsByDomain = new LinkedHashMap<>();
+        requested.forEach(name -> studentsByDomain.put(name, new ArrayList<>()));
+        for (Object[] row : studentRepository.findStudentIdsByDomainNames(requested)) {
+            studentsByDomain.get((String) row[1]).add((Long) row[0]);
+        }
+        studentsByDomain.forEach((name, studentIds) ->
+                assignmentIndex.refreshDomain(domainsByName.get(name).getDomainId(), studentIds));
+
+        Map<Long, String> domainByStudent = new HashMap<>();
+        List<Object[]> pairs = new ArrayList<>();
+        for (Bills bill : bills) {
+            studentsByDomain.forEach((domainName, studentIds) -> studentIds.forEach(studentId -> {
+                domainByStudent.put(studentId, domainName);
+                pairs.add(new Object[]{studentId, bill.getBillId()});
+            }));
+        }
+        int totalStudents = domainByStudent.size();
+
+        // With the bills locked, the current holders are final until commit; exactly the missing pairs
+        // are inserted, so they are the pairs this call added (see StudentBillsBatchRepository.lockBills)
+        studentBillsRepository.flush();
+        List<Long> billIds = bills.stream().map(Bills::getBillId).collect(Collectors.toList());
+        batchRepository.lockBills(billIds);
+        Set<String> holders = batchRepository.lockHolders(billIds).stream()
+                .map(pair -> pair[0] + ":" + pair[1])
+                .collect(Collectors.toSet());
+        List<Object[]> insertedPairs = pairs.stream()
+                .filter(pair -> !holders.contains(pair[0] + ":" + pair[1]))
+                .collect(Collectors.toList());
+        if (!insertedPairs.isEmpty()) {
+            batchRepository.insertPairs(insertedPairs);
+        }
+        int inserted = insertedPairs.size();
+
+        // billId -> domain -> students given the bill by this call
+        Map<Long, Map<String, List<Long>>> assignedByBill = new HashMap<>();
+        for (Object[] pair : insertedPairs) {
+            Long studentId = (Long) pair[0];
+            assignedByBill.computeIfAbsent((Long) pair[1], id -> new LinkedHashMap<>())
+                    .computeIfAbsent(domainByStudent.get(studentId), name -> new ArrayList<>())
+                    .add(studentId);
+        }
+
+        List<BundleAssignmentResponse.Entry> entries = new ArrayList<>();
+        for (Bills bill : bills) {
+            Map<String, List<Long>> assignedByDomain = assignedByBill.getOrDefault(bill.getBillId(), Map.of());
+            List<Long> billStudentIds = new ArrayList<>();
+
+            studentsByDomain.forEach((domainName, studentIds) -> {
+                List<Long> assigned = assignedByDomain.getOrDefault(domainName, List.of());
+                entries.add(new BundleAssignmentResponse.Entry(bill.getBillId(), bill.getDescription(), domainName,
+                        studentIds.size(), assigned.size(), studentIds.size() - assigned.size()));
+                if (!assigned.isEmpty()) {
+                    billStudentIds.addAll(assigned);
+                    eventPublisher.publishEvent(ChangeEvent.domain(
+                            ChangeEventType.ASSIGNMENT_ADDED, bill.getBillId(), domainName, assigned));
+                }
+            });
+
+            if (!billStudentIds.isEmpty()) {
+                outboxRepository.enqueueAssignments(bill.getBillId(), billStudentIds);
+            }
+        }
+
+        int totalPairs = totalStudents * bills.size();
+        return new BundleAssignmentResponse(bundle.getBundleId(), bundle.getName(), totalStudents,
+                inserted, totalPairs - inserted, entries);
+    }
+}
@@ -0,0 +1,111 @@
+package com.esd.project.Service;
+
+import com.esd.project.Entity.Domain;
+import com.esd.project.Exception.ResourceNotFoundException;
+import com.esd.project.Repository.DomainRepository;
+import com.esd.project.Repository.StatementRepository;
+import com.esd.project.Statement.FeeStatementRenderer;
+import com.esd.project.Statement.StudentStatement;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Service
+public class FeeStatementService {
+
+    private final DomainRepository domainRepository;
+    private final StatementRepository statementRepository;
+
+    private final ForkJoinPool renderPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // Rendered statements waiting to be zipped; bounds memory regardless of cohort size
+    private final int maxInFlight = renderPool.getParallelism() * 4;
+
+    public FeeStatementService(DomainRepository domainRepository, StatementRepository statementRepository) {
+        this.domainRepository = domainRepository;
+        this.statementRepository = statementRepository;
+    }
+
+    public Domain getDomain(String domainName) {
+        Domain domain = domainRepository.findByDomainName(domainName);
+        if (domain == null) {
+            throw new ResourceNotFoundException("Domain not found: " + domainName);
+        }
+        return domain;
+    }
+
+    // Stream one statement per student of the domain into a ZIP.
+    // Students are read in chunks, rendered in parallel and written in roll-number order.
+    public void writeDomainStatements(Domain domain, OutputStream out) throws IOException {
+
+        LocalDate today = LocalDate.now();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<ForkJoinTask<RenderedStatement>> inFlight = new ArrayDeque<>();
+
+        try {
+            statementRepository.readDomainStatements(domain.getDomainId(), statements ->
+                    statements.forEach(statement -> submit(statement, domain.getDomainName(), today, inFlight, zip)));
+
+            while (!inFlight.isEmpty()) {
+                writeEntry(zip, inFlight.poll().join());
+            }
+            zip.finish();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private void submit(StudentStatement statement, String domainName, LocalDate today,
+                        Deque<ForkJoinTask<RenderedStatement>> inFlight, ZipOutputStream zip) {
+        inFlight.add(renderPool.submit(() -> new RenderedStatement(
+                entryName(statement.getRollNumber()),
+                FeeStatementRenderer.render(statement, domainName, today))));
+
+        // Write the oldest finished statement before reading further
+        if (inFlight.size() >= maxInFlight) {
+            writeEntry(zip, inFlight.poll().join());
+        }
+    }
+
+    private static void writeEntry(ZipOutputStream zip, RenderedStatement rendered) {
+        try {
+            zip.putNextEntry(new ZipEntry(rendered.name));
+            zip.write(rendered.content);
+            zip.closeEntry();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String entryName(String rollNumber) {
+        return rollNumber.replaceAll("[^A-Za-z0-9._-]", "_") + ".txt";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    private static final class RenderedStatement {
+
+        private final String name;
+        private final byte[] content;
+
+        private RenderedStatement(String name, byte[] content) {
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.esd.project.Service;
+
+import com.esd.project.DTO.Request.PaymentRequest;
+import com.esd.project.DTO.Response.PaymentResponse;
+import com.esd.project.DTO.Response.StatementImportResponse;
+import com.esd.project.DTO.Response.StatementReviewItemResponse;
+import com.esd.project.Entity.Payment;
+import com.esd.project.Entity.StatementReviewItem;
+import com.esd.project.Entity.StudentBills;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Exception.ResourceNotFoundException;
+import com.esd.project.Mapper.PaymentMapper;
+import com.esd.project.Reconciliation.AssignmentLookup;
+import com.esd.project.Reconciliation.MatchedPayment;
+import com.esd.project.Reconciliation.StatementReader;
+import com.esd.project.Repository.PaymentRepository;
+import com.esd.project.Repository.ReconciliationRepository;
+import com.esd.project.Repository.StatementReviewItemRepository;
+import com.esd.project.Repository.StudentBillsRepository;
+import com.esd.project.Timing.TimedMapping;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class PaymentService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final PaymentRepository paymentRepository;
+    private final StudentBillsRepository studentBillsRepository;
+    private final StatementReviewItemRepository reviewItemRepository;
+    private final ReconciliationRepository reconciliationRepository;
+
+    public PaymentService(PaymentRepository paymentRepository,
+                          StudentBillsRepository studentBillsRepository,
+                          StatementReviewItemRepository reviewItemRepository,
+                          ReconciliationRepository reconciliationRepository) {
+        this.paymentRepository = paymentRepository;
+        this.studentBillsRepository = studentBillsRepository;
+        this.reviewItemRepository = reviewItemRepository;
+        this.reconciliationRepository = reconciliationRepository;
+    }
+
+    // Record one payment against a student's bill
+    @Transactional
+    public PaymentResponse recordPayment(Long studentBillId, PaymentRequest request) {
+
+        StudentBills studentBill = studentBillsRepository.findById(studentBillId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student bill not found with ID: " + studentBillId));
+
+        if (paymentRepository.existsByReference(request.getReference().trim())) {
+            throw new BusinessException("Payment already recorded with reference: " + request.getReference());
+        }
+
+        Payment saved = paymentRepository.save(PaymentMapper.toEntity(request, studentBill));
+        return TimedMapping.map(saved, PaymentMapper::toResponse);
+    }
+
+    // Match a bank statement against all assignments and record the matches in batches.
+    // Each batch commits on its own; unmatched lines go to the review queue.
+    public StatementImportResponse importStatement(Path file) {
+
+        long started = System.nanoTime();
+        ImportRun run = new ImportRun(reconciliationRepository.loadAssignmentLookup(), LocalDateTime.now());
+
+        try {
+            StatementReader.read(file, run);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read statement file", ex);
+        }
+        run.flushPayments();
+        run.flushReview();
+
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+        return new StatementImportResponse(run.lines, run.matched, run.recorded,
+                run.matched - run.recorded, run.sentToReview, elapsedMs);
+    }
+
+    public List<StatementReviewItemResponse> getReviewQueue() {
+        return TimedMapping.mapAll(reviewItemRepository.findByResolvedFalseOrderByIdAsc(),
+                PaymentMapper::toResponse);
+    }
+
+    @Transactional
+    public void resolveReviewItem(Long id) {
+        StatementReviewItem item = reviewItemRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Review item not found with ID: " + id));
+        item.setResolved(true);
+    }
+
+    private class ImportRun implements StatementReader.LineHandler {
+
+        private final AssignmentLookup lookup;
+        private final LocalDateTime importedAt;
+        private final List<MatchedPayment> payments = new ArrayList<>(BATCH_SIZE);
+        private final List<StatementReviewItem> review = new ArrayList<>();
+
+        private long lines;
+        private long matched;
+        private long recorded;
+        private long sentToReview;
+
+        private ImportRun(AssignmentLookup lookup, LocalDateTime importedAt) {
+            this.lookup = lookup;
+            this.importedAt = importedAt;
+        }
+
+        @Override
+        public void onLine(StatementReader.StatementLine line) {
+            lines++;
+            long studentBillId = lookup.find(line.buffer(), line.rollOffset(), line.rollLength(), line.billId());
+            if (studentBillId < 0) {
+                addToReview(line.lineNumber(), line.raw(), "No assignment for this roll number and bill");
+                return;
+            }
+
+            LocalDate paidOn;
+            try {
+                paidOn = LocalDate.of(line.year(), line.month(), line.day());
+            } catch (DateTimeException ex) {
+                addToReview(line.lineNumber(), line.raw(), "Invalid date");
+                return;
+            }
+
+            matched++;
+            payments.add(new MatchedPayment(studentBillId, line.amountCents(), paidOn, line.reference()));
+            if (payments.size() == BATCH_SIZE) {
+                flushPayments();
+            }
+        }
+
+        @Override
+        public void onMalformed(long lineNumber, String rawLine, String reason) {
+            lines++;
+            addToReview(lineNumber, rawLine, reason);
+        }
+
+        private void addToReview(long lineNumber, String rawLine, String reason) {
+            sentToReview++;
+            review.add(PaymentMapper.toReviewItem(lineNumber, rawLine, reason, importedAt));
+            if (review.size() == BATCH_SIZE) {
+                flushReview();
+            }
+        }
+
+        private void flushPayments() {
+            recorded += reconciliationRepository.insertPayments(payments, importedAt);
+            payments.clear();
+        }
+
+        private void flushReview() {
+            if (!review.isEmpty()) {
+                reviewItemRepository.saveAll(review);
+                review.clear();
+            }
+        }
+    }
+}
@@ -1,47 +1,95 @@
 
 package com.esd.project.Service;
 
+import com.esd.project.Coalescing.SingleAssignment;
+import com.esd.project.DTO.Response.AssignmentCompactResponse;
+import com.esd.project.DTO.Response.AssignmentSummaryResponse;
+import com.esd.project.DTO.Response.BillTransferResponse;
+import com.esd.project.DTO.Response.DomainCoverageResponse;
 import com.esd.project.DTO.Response.StudentBillResponse;
 import com.esd.project.Entity.Bills;
 import com.esd.project.Entity.Domain;
 import com.esd.project.Entity.Student;
 import com.esd.project.Entity.StudentBills;
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Event.ChangeEventType;
 import com.esd.project.Exception.BusinessException;
 import com.esd.project.Exception.ResourceNotFoundException;
+import com.esd.project.Index.AssignmentIndex;
 import com.esd.project.Mapper.StudentBillMapper;
+import com.esd.project.Projection.FieldSet;
+import com.esd.project.Projection.ProjectedRows;
+import com.esd.project.Projection.StudentBillField;
 import com.esd.project.Repository.BillsRepository;
 import com.esd.project.Repository.DomainRepository;
+import com.esd.project.Repository.NotificationOutboxRepository;
+import com.esd.project.Repository.ProjectionRepository;
+import com.esd.project.Repository.StudentBillsBatchRepository;
 import com.esd.project.Repository.StudentBillsRepository;
 import com.esd.project.Repository.StudentRepository;
+import com.esd.project.Repository.StudentVersionRepository;
+import com.esd.project.Timing.TimedMapping;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class StudentBillsService {
 
     private final StudentBillsRepository studentBillsRepository;
+    private final StudentBillsBatchRepository batchRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final StudentVersionRepository studentVersionRepository;
     private final StudentRepository studentRepository;
     private final BillsRepository billsRepository;
     private final DomainRepository domainRepository;
+    private final ProjectionRepository projectionRepository;
+    private final AssignmentIndex assignmentIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StudentBillsService(StudentBillsRepository studentBillsRepository,
+                               StudentBillsBatchRepository batchRepository,
+                               NotificationOutboxRepository outboxRepository,
+                               StudentVersionRepository studentVersionRepository,
                                StudentRepository studentRepository,
                                BillsRepository billsRepository,
-                               DomainRepository domainRepository) {
+                               DomainRepository domainRepository,
+                               ProjectionRepository projectionRepository,
+                               AssignmentIndex assignmentIndex,
+                               ApplicationEventPublisher eventPublisher) {
 
         this.studentBillsRepository = studentBillsRepository;
+        this.batchRepository = batchRepository;
+        this.outboxRepository = outboxRepository;
+        this.studentVersionRepository = studentVersionRepository;
         this.studentRepository = studentRepository;
         this.billsRepository = billsRepository;
         this.domainRepository = domainRepository;
+        this.projectionRepository = projectionRepository;
+        this.assignmentIndex = assignmentIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     // Assign bill to one student
     @Transactional
     public StudentBillResponse assignBillToStudent(String rollNumber, Long billId) {
+        return assignBillToStudent(rollNumber, billId, null);
+    }
+
+    // actor overrides the audited user, for calls made on behalf of another thread's request
+    @Transactional
+    public StudentBillResponse assignBillToStudent(String rollNumber, Long billId, String actor) {
 
         Student student = studentRepository.findByRollNumber(rollNumber);
         if (student == null) {
@@ -51,20 +99,95 @@ public class StudentBillsService {
         Bills bill = billsRepository.findById(billId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
 
-        // Prevent duplicate entries
-        boolean exists = studentBillsRepository
-                .existsByStudent_StudentIdAndBill_BillId(student.getStudentId(), billId);
-
-        if (exists) {
+        // The unique constraint rejects duplicates, even from concurrent requests.
+        // Pending JPA changes (e.g. a removal earlier in a batch) must reach the table first.
+        studentBillsRepository.flush();
+        Long id = batchRepository.insertIgnore(student.getStudentId(), billId);
+        if (id == null) {
             throw new BusinessException("Bill already assigned to student: " + rollNumber);
         }
 
         StudentBills sb = new StudentBills();
+        sb.setId(id);
         sb.setStudent(student);
         sb.setBill(bill);
 
-        StudentBills saved = studentBillsRepository.save(sb);
-        return StudentBillMapper.toResponse(saved);
+        ChangeEvent event = ChangeEvent.student(
+                ChangeEventType.ASSIGNMENT_ADDED, billId, rollNumber, student.getStudentId());
+        event.setActor(actor);
+        eventPublisher.publishEvent(event);
+        return TimedMapping.map(sb, StudentBillMapper::toResponse);
+    }
+
+    // Many single assignments in one transaction (group commit).
+    // Each entry receives its own response or error; entries never fail each other.
+    @Transactional
+    public void assignCoalesced(List<SingleAssignment> batch) {
+
+        Map<String, Student> students = studentRepository.findByRollNumberIn(batch.stream()
+                        .map(SingleAssignment::getRollNumber)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Student::getRollNumber, student -> student));
+        Map<Long, Bills> bills = billsRepository.findAllById(batch.stream()
+                        .map(SingleAssignment::getBillId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Bills::getBillId, bill -> bill));
+
+        // Inserted in bill order: bulk assignments lock bill rows in that order too (see lockBills)
+        List<SingleAssignment> ordered = new ArrayList<>(batch);
+        ordered.sort(Comparator.comparing(SingleAssignment::getBillId));
+
+        List<SingleAssignment> pending = new ArrayList<>();
+        List<Object[]> pairs = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (SingleAssignment assignment : ordered) {
+            Student student = students.get(assignment.getRollNumber());
+            if (student == null) {
+                assignment.fail(new ResourceNotFoundException("Student not found: " + assignment.getRollNumber()));
+                continue;
+            }
+            if (!bills.containsKey(assignment.getBillId())) {
+                assignment.fail(new ResourceNotFoundException("Bill not found with ID: " + assignment.getBillId()));
+                continue;
+            }
+            if (!seen.add(student.getStudentId() + ":" + assignment.getBillId())) {
+                assignment.fail(new BusinessException("Bill already assigned to student: " + assignment.getRollNumber()));
+                continue;
+            }
+            pending.add(assignment);
+            pairs.add(new Object[]{student.getStudentId(), assignment.getBillId()});
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        studentBillsRepository.flush();
+        int[] counts = batchRepository.insertIgnoreEach(pairs);
+
+        Map<String, StudentBills> stored = new HashMap<>();
+        for (StudentBills sb : studentBillsRepository.findByStudentsAndBills(
+                pairs.stream().map(pair -> (Long) pair[0]).collect(Collectors.toSet()),
+                pairs.stream().map(pair -> (Long) pair[1]).collect(Collectors.toSet()))) {
+            stored.put(sb.getStudent().getStudentId() + ":" + sb.getBill().getBillId(), sb);
+        }
+
+        for (int i = 0; i < pending.size(); i++) {
+            SingleAssignment assignment = pending.get(i);
+            Long studentId = (Long) pairs.get(i)[0];
+            StudentBills sb = stored.get(studentId + ":" + assignment.getBillId());
+            if (counts[i] == 0 || sb == null) {
+                assignment.fail(new BusinessException("Bill already assigned to student: " + assignment.getRollNumber()));
+                continue;
+            }
+
+            assignment.setResponse(StudentBillMapper.toResponse(sb));
+            ChangeEvent event = ChangeEvent.student(
+                    ChangeEventType.ASSIGNMENT_ADDED, assignment.getBillId(), assignment.getRollNumber(), studentId);
+            event.setActor(assignment.getActor());
+            eventPublisher.publishEvent(event);
+        }
     }
 
     // Get bills by roll number
@@ -75,9 +198,32 @@ public class StudentBillsService {
             throw new ResourceNotFoundException("No student found with roll number " + rollNumber);
         }
 
-        return studentBillsRepository.findByStudent_RollNumber(rollNumber).stream()
-                .map(StudentBillMapper::toResponse)
-                .collect(Collectors.toList());
+        return TimedMapping.mapAll(studentBillsRepository.findByStudent_RollNumber(rollNumber),
+                StudentBillMapper::toResponse);
+    }
+
+    // ETag of a student's bill list: changes whenever one of their assignments or bills changes,
+    // or their name or email (part of every entry) is edited.
+    // One primary-key lookup, so unchanged lists can be answered without loading them.
+    public String getBillsEtag(String rollNumber) {
+        long[] version = studentVersionRepository.findByRollNumber(rollNumber);
+        if (version == null) {
+            throw new ResourceNotFoundException("No student found with roll number " + rollNumber);
+        }
+        return "\"sb-" + version[0] + "-" + version[1] + "-" + Integer.toHexString((int) version[2]) + "\"";
+    }
+
+    // Get only the requested fields of a student's bills
+    public ProjectedRows getBillsByRollNumber(String rollNumber, String fields) {
+
+        FieldSet<StudentBillField> fieldSet = FieldSet.parse(StudentBillField.class, fields);
+
+        Student student = studentRepository.findByRollNumber(rollNumber);
+        if (student == null) {
+            throw new ResourceNotFoundException("No student found with roll number " + rollNumber);
+        }
+
+        return projectionRepository.findStudentBillsByStudentId(student.getStudentId(), fieldSet);
     }
 
     // Delete all bills for student
@@ -90,6 +236,8 @@ public class StudentBillsService {
         }
 
         studentBillsRepository.deleteByStudent_RollNumber(rollNumber);
+        eventPublisher.publishEvent(ChangeEvent.student(
+                ChangeEventType.ASSIGNMENT_REMOVED, null, rollNumber, student.getStudentId()));
     }
 
     // Delete specific bill record
@@ -103,12 +251,47 @@ public class StudentBillsService {
             throw new ResourceNotFoundException("Bill " + billId + " not assigned to student " + rollNumber);
         }
 
+        Long studentId = sb.getStudent().getStudentId();
         studentBillsRepository.delete(sb);
+        eventPublisher.publishEvent(ChangeEvent.student(
+                ChangeEventType.ASSIGNMENT_REMOVED, billId, rollNumber, studentId));
     }
 
     // Assign to all students in a domain
     @Transactional
     public List<StudentBillResponse> assignBillToDomain(String domainName, Long billId) {
+        return toResponses(assignDomain(domainName, billId, true));
+    }
+
+    @Transactional
+    public AssignmentCompactResponse assignBillToDomainCompact(String domainName, Long billId) {
+        BulkAssignment result = assignDomain(domainName, billId, true);
+        return TimedMapping.map(result, r -> StudentBillMapper.toCompactResponse(r.bill, r.rows));
+    }
+
+    @Transactional
+    public AssignmentSummaryResponse assignBillToDomainSummary(String domainName, Long billId) {
+        return toSummary(assignDomain(domainName, billId, false));
+    }
+
+    // Assign to a list of students
+    @Transactional
+    public List<StudentBillResponse> assignBillToStudents(List<String> rollNumbers, Long billId) {
+        return toResponses(assignRolls(rollNumbers, billId, true));
+    }
+
+    @Transactional
+    public AssignmentCompactResponse assignBillToStudentsCompact(List<String> rollNumbers, Long billId) {
+        BulkAssignment result = assignRolls(rollNumbers, billId, true);
+        return TimedMapping.map(result, r -> StudentBillMapper.toCompactResponse(r.bill, r.rows));
+    }
+
+    @Transactional
+    public AssignmentSummaryResponse assignBillToStudentsSummary(List<String> rollNumbers, Long billId) {
+        return toSummary(assignRolls(rollNumbers, billId, false));
+    }
+
+    private BulkAssignment assignDomain(String domainName, Long billId, boolean readBack) {
 
         Domain domain = domainRepository.findByDomainName(domainName);
         if (domain == null) {
@@ -123,24 +306,196 @@ public class StudentBillsService {
         Bills bill = billsRepository.findById(billId)
                 .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
 
-        List<StudentBills> assigned = new ArrayList<>();
+        List<Long> domainStudentIds = students.stream()
+                .map(Student::getStudentId)
+                .collect(Collectors.toList());
+        assignmentIndex.refreshDomain(domain.getDomainId(), domainStudentIds);
 
-        for (Student student : students) {
+        BulkAssignment result = insertAssignments(bill, domainStudentIds, readBack,
+                () -> studentBillsRepository.findByDomainAndBill(domain.getDomainId(), billId));
 
-            boolean exists = studentBillsRepository
-                    .existsByStudent_StudentIdAndBill_BillId(student.getStudentId(), billId);
+        if (!result.studentIds.isEmpty()) {
+            // Emails go out from the outbox after commit, not inside this transaction
+            outboxRepository.enqueueAssignments(billId, result.studentIds);
+            eventPublisher.publishEvent(ChangeEvent.domain(
+                    ChangeEventType.ASSIGNMENT_ADDED, billId, domainName, result.studentIds));
+        }
+        return result;
+    }
+
+    private BulkAssignment assignRolls(List<String> rollNumbers, Long billId, boolean readBack) {
+
+        Set<String> requested = new LinkedHashSet<>(rollNumbers);
+        List<Student> students = studentRepository.findByRollNumberIn(requested);
+        if (students.size() < requested.size()) {
+            Set<String> found = students.stream().map(Student::getRollNumber).collect(Collectors.toSet());
+            List<String> missing = requested.stream()
+                    .filter(rollNumber -> !found.contains(rollNumber))
+                    .limit(20)
+                    .collect(Collectors.toList());
+            throw new ResourceNotFoundException("Students not found: " + String.join(", ", missing));
+        }
 
-            if (exists) continue;
+        Bills bill = billsRepository.findById(billId)
+                .orElseThrow(() -> new ResourceNotFoundException("Bill not found with ID: " + billId));
 
-            StudentBills sb = new StudentBills();
-            sb.setStudent(student);
-            sb.setBill(bill);
+        List<Long> studentIds = students.stream()
+                .map(Student::getStudentId)
+                .collect(Collectors.toList());
 
-            assigned.add(studentBillsRepository.save(sb));
+        BulkAssignment result = insertAssignments(bill, studentIds, readBack,
+                () -> studentBillsRepository.findByBill_BillIdAndStudent_StudentIdIn(billId, studentIds));
+
+        if (!result.studentIds.isEmpty()) {
+            Set<Long> assignedIds = new HashSet<>(result.studentIds);
+            List<String> assignedRolls = students.stream()
+                    .filter(student -> assignedIds.contains(student.getStudentId()))
+                    .map(Student::getRollNumber)
+                    .collect(Collectors.toList());
+            eventPublisher.publishEvent(ChangeEvent.students(
+                    ChangeEventType.ASSIGNMENT_ADDED, billId, assignedRolls, result.studentIds));
         }
+        return result;
+    }
 
-        return assigned.stream()
-                .map(StudentBillMapper::toResponse)
+    // Locks the bill, reads its current holders and inserts exactly the students that are missing,
+    // so the students this call assigned are known without reading them back.
+    // No other transaction can add holders of the bill while the lock is held (see lockBills).
+    private BulkAssignment insertAssignments(Bills bill, List<Long> studentIds,
+                                             boolean readBack, Supplier<List<StudentBills>> reader) {
+
+        studentBillsRepository.flush();
+        batchRepository.lockBills(List.of(bill.getBillId()));
+        Set<Long> holders = batchRepository.lockHolders(List.of(bill.getBillId())).stream()
+                .map(pair -> (Long) pair[0])
+                .collect(Collectors.toSet());
+        List<Long> missing = studentIds.stream()
+                .filter(studentId -> !holders.contains(studentId))
                 .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            batchRepository.insertAll(bill.getBillId(), missing);
+        }
+
+        List<StudentBills> rows = null;
+        if (readBack) {
+            // Students and bill are already in the persistence context
+            Set<Long> missingIds = new HashSet<>(missing);
+            rows = missing.isEmpty() ? List.of() : reader.get().stream()
+                    .filter(sb -> missingIds.contains(sb.getStudent().getStudentId()))
+                    .collect(Collectors.toList());
+        }
+
+        return new BulkAssignment(bill, studentIds.size(), studentIds.size() - missing.size(), rows, missing);
+    }
+
+    private static List<StudentBillResponse> toResponses(BulkAssignment result) {
+        return TimedMapping.mapAll(result.rows, StudentBillMapper::toResponse);
+    }
+
+    private static AssignmentSummaryResponse toSummary(BulkAssignment result) {
+        return new AssignmentSummaryResponse(result.bill.getBillId(), result.requested,
+                result.requested - result.alreadyAssigned, result.alreadyAssigned);
+    }
+
+    // Remove a bill from all students in a domain
+    @Transactional
+    public int unassignBillFromDomain(String domainName, Long billId) {
+
+        Domain domain = domainRepository.findByDomainName(domainName);
+        if (domain == null) {
+            throw new ResourceNotFoundException("Domain not found: " + domainName);
+        }
+
+        if (!billsRepository.existsById(billId)) {
+            throw new ResourceNotFoundException("Bill not found with ID: " + billId);
+        }
+
+        int removed = studentBillsRepository.deleteByDomainAndBill(domain.getDomainId(), billId);
+
+        if (removed > 0) {
+            eventPublisher.publishEvent(ChangeEvent.domain(
+                    ChangeEventType.ASSIGNMENT_REMOVED, billId, domainName, null));
+        }
+        return removed;
+    }
+
+    // Move a domain's assignments from one bill to another
+    @Transactional
+    public BillTransferResponse transferBillInDomain(String domainName, Long fromBillId, Long toBillId) {
+
+        if (fromBillId.equals(toBillId)) {
+            throw new BusinessException("Source and target bill must be different");
+        }
+
+        Domain domain = domainRepository.findByDomainName(domainName);
+        if (domain == null) {
+            throw new ResourceNotFoundException("Domain not found: " + domainName);
+        }
+
+        if (!billsRepository.existsById(fromBillId)) {
+            throw new ResourceNotFoundException("Bill not found with ID: " + fromBillId);
+        }
+        if (!billsRepository.existsById(toBillId)) {
+            throw new ResourceNotFoundException("Bill not found with ID: " + toBillId);
+        }
+
+        int transferred = studentBillsRepository.transferByDomain(domain.getDomainId(), fromBillId, toBillId);
+        // Students who already held the target bill lose the source one instead of holding both
+        int merged = studentBillsRepository.dropDuplicatesAfterTransfer(domain.getDomainId(), fromBillId);
+        int skipped = (int) studentBillsRepository.countByDomainAndBill(domain.getDomainId(), fromBillId);
+
+        if (transferred + merged > 0) {
+            eventPublisher.publishEvent(ChangeEvent.domain(
+                    ChangeEventType.ASSIGNMENT_REMOVED, fromBillId, domainName, null));
+        }
+        if (transferred > 0) {
+            eventPublisher.publishEvent(ChangeEvent.domain(
+                    ChangeEventType.ASSIGNMENT_ADDED, toBillId, domainName, null));
+        }
+        return new BillTransferResponse(transferred, merged, skipped);
+    }
+
+    // How many students of a domain hold a bill, and how many an assignment would add
+    public DomainCoverageResponse getDomainCoverage(String domainName, Long billId) {
+
+        Domain domain = domainRepository.findByDomainName(domainName);
+        if (domain == null) {
+            throw new ResourceNotFoundException("Domain not found: " + domainName);
+        }
+
+        if (!billsRepository.existsById(billId)) {
+            throw new ResourceNotFoundException("Bill not found with ID: " + billId);
+        }
+
+        int total;
+        int assigned;
+        if (assignmentIndex.isLoaded()) {
+            total = assignmentIndex.countStudentsInDomain(domain.getDomainId());
+            assigned = assignmentIndex.countAssignedInDomain(domain.getDomainId(), billId);
+        } else {
+            // Startup: count in the database until the index is ready
+            total = (int) studentRepository.countByDomain_DomainId(domain.getDomainId());
+            assigned = (int) studentBillsRepository.countByDomainAndBill(domain.getDomainId(), billId);
+        }
+        return new DomainCoverageResponse(domainName, billId, total, assigned, total - assigned);
+    }
+
+    private static final class BulkAssignment {
+
+        private final Bills bill;
+        private final int requested;
+        private final int alreadyAssigned;
+        // Only when read back
+        private final List<StudentBills> rows;
+        private final List<Long> studentIds;
+
+        private BulkAssignment(Bills bill, int requested, int alreadyAssigned,
+                               List<StudentBills> rows, List<Long> studentIds) {
+            this.bill = bill;
+            this.requested = requested;
+            this.alreadyAssigned = alreadyAssigned;
+            this.rows = rows;
+            this.studentIds = studentIds;
+        }
     }
 }
@@ -0,0 +1,53 @@
+package com.esd.project.Statement;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+// Plain-text fee statement; stateless so it can run on any pool thread
+public class FeeStatementRenderer {
+
+    private static final String ROW_FORMAT = "%-8s %-32s %-10s %-10s %12s %12s %12s%n";
+
+    public static byte[] render(StudentStatement statement, String domain, LocalDate generatedOn) {
+        StringBuilder text = new StringBuilder(512 + statement.getLines().size() * 110);
+        text.append("FEE STATEMENT\n\n");
+        text.append("Roll number: ").append(statement.getRollNumber()).append('\n');
+        text.append("Name:        ").append(statement.getName()).append('\n');
+        text.append("Email:       ").append(statement.getEmail()).append('\n');
+        text.append("Domain:      ").append(domain).append('\n');
+        text.append("Generated:   ").append(generatedOn).append("\n\n");
+
+        text.append(String.format(ROW_FORMAT, "Bill", "Description", "Bill date", "Deadline", "Amount", "Paid", "Due"));
+
+        double totalAmount = 0;
+        double totalPaid = 0;
+        for (StudentStatement.Line line : statement.getLines()) {
+            double due = Math.max(0, line.getAmount() - line.getPaid());
+            totalAmount += line.getAmount();
+            totalPaid += line.getPaid();
+            text.append(String.format(ROW_FORMAT,
+                    line.getBillId(),
+                    truncate(line.getDescription(), 32),
+                    line.getBillDate(),
+                    line.getDeadline(),
+                    money(line.getAmount()),
+                    money(line.getPaid()),
+                    money(due)));
+        }
+
+        text.append('\n');
+        text.append("Total billed: ").append(money(totalAmount)).append('\n');
+        text.append("Total paid:   ").append(money(totalPaid)).append('\n');
+        text.append("Balance due:  ").append(money(Math.max(0, totalAmount - totalPaid))).append('\n');
+
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String money(double value) {
+        return String.format("%.2f", value);
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length - 1) + "~";
+    }
+}
@@ -0,0 +1,29 @@
+package com.esd.project.Statement;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// All bill rows of one student, collected from the streamed query
+@Data
+public class StudentStatement {
+
+    private final String rollNumber;
+    private final String name;
+    private final String email;
+    private final List<Line> lines = new ArrayList<>();
+
+    @Data
+    @AllArgsConstructor
+    public static class Line {
+        private Long billId;
+        private String description;
+        private Double amount;
+        private LocalDate billDate;
+        private LocalDate deadline;
+        private Double paid;
+    }
+}
@@ -0,0 +1,117 @@
+package com.esd.project.Timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Phase durations of the request running on the current thread
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private final long[] nanos = new long[TimingPhase.values().length];
+    private long securityEnd;
+    private long sessionAtSecurityEnd;
+    private long bodyWriteStart;
+    private int mappingDepth;
+    private long mappingStart;
+    private long dbAtMappingStart;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void add(TimingPhase phase, long durationNanos) {
+        nanos[phase.ordinal()] += durationNanos;
+    }
+
+    // Nested mappings (a list mapper calling an element mapper) count once.
+    // Lazy loads run while mapping stay in the db phase.
+    public void beginMapping() {
+        if (mappingDepth++ == 0) {
+            mappingStart = System.nanoTime();
+            dbAtMappingStart = nanos[TimingPhase.DB.ordinal()];
+        }
+    }
+
+    public void endMapping() {
+        if (--mappingDepth == 0) {
+            long db = nanos[TimingPhase.DB.ordinal()] - dbAtMappingStart;
+            nanos[TimingPhase.MAPPING.ordinal()] += System.nanoTime() - mappingStart - db;
+        }
+    }
+
+    // Reached the first filter after Spring Security
+    public void markSecurityDone() {
+        securityEnd = System.nanoTime();
+        sessionAtSecurityEnd = nanos[TimingPhase.SESSION.ordinal()];
+        nanos[TimingPhase.SECURITY.ordinal()] = securityEnd - start - sessionAtSecurityEnd;
+    }
+
+    // Handler returned and the body is about to be serialized
+    public void markBodyWrite() {
+        if (securityEnd == 0) {
+            return;
+        }
+        bodyWriteStart = System.nanoTime();
+        long sessionInHandler = nanos[TimingPhase.SESSION.ordinal()] - sessionAtSecurityEnd;
+        nanos[TimingPhase.APP.ordinal()] = bodyWriteStart - securityEnd
+                - nanos[TimingPhase.DB.ordinal()] - nanos[TimingPhase.MAPPING.ordinal()] - sessionInHandler;
+    }
+
+    public void finish() {
+        long now = System.nanoTime();
+        nanos[TimingPhase.TOTAL.ordinal()] = now - start;
+        if (bodyWriteStart > 0) {
+            nanos[TimingPhase.SERIALIZATION.ordinal()] = now - bodyWriteStart;
+        }
+    }
+
+    // Server-Timing header value for everything measured so far. The header is sent before the body,
+    // so serialization (and the total that includes it) cannot be part of it.
+    public String toHeader() {
+        StringBuilder header = new StringBuilder();
+        for (TimingPhase phase : TimingPhase.values()) {
+            if (phase == TimingPhase.SERIALIZATION || phase == TimingPhase.TOTAL) {
+                continue;
+            }
+            if (header.length() > 0) {
+                header.append(", ");
+            }
+            header.append(phase.metricName())
+                    .append(";desc=\"").append(phase.description()).append('"')
+                    .append(";dur=").append(String.format(Locale.ROOT, "%.2f", millis(phase)));
+        }
+        return header.toString();
+    }
+
+    public Map<String, Double> toMillisMap() {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        for (TimingPhase phase : TimingPhase.values()) {
+            phases.put(phase.metricName(), Math.round(millis(phase) * 100) / 100.0);
+        }
+        return phases;
+    }
+
+    public double millis(TimingPhase phase) {
+        return nanos[phase.ordinal()] / 1_000_000.0;
+    }
+
+    public long nanos(TimingPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+}
@@ -0,0 +1,27 @@
+package com.esd.project.Timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Runs right after Spring Security's filter chain (order -100) to close the security phase
+@Component
+@Order(-99)
+public class SecurityTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            timings.markSecurityDone();
+        }
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,77 @@
+package com.esd.project.Timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Outermost filter: starts the request's timings and samples them when it ends.
+// server-timing.enabled is read at startup rather than used as a bean condition,
+// so the AOT-built fast-startup jar still honours it.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private final TimingSamples samples;
+    private final boolean enabled;
+
+    public ServerTimingFilter(TimingSamples samples,
+                              @Value("${server-timing.enabled:false}") boolean enabled) {
+        this.samples = samples;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            chain.doFilter(new SessionTimingRequest(request), response);
+        } finally {
+            RequestTimings.end();
+            if (!request.isAsyncStarted()) {
+                timings.finish();
+                samples.add(request.getMethod(), request.getRequestURI(), response.getStatus(), timings);
+            }
+        }
+    }
+
+    private static final class SessionTimingRequest extends HttpServletRequestWrapper {
+
+        private SessionTimingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public HttpSession getSession() {
+            return getSession(true);
+        }
+
+        @Override
+        public HttpSession getSession(boolean create) {
+            long start = System.nanoTime();
+            try {
+                return super.getSession(create);
+            } finally {
+                RequestTimings timings = RequestTimings.current();
+                if (timings != null) {
+                    timings.add(TimingPhase.SESSION, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
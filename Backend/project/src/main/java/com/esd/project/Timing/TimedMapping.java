@@ -0,0 +1,30 @@
+package com.esd.project.Timing;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Runs entity-to-response mapping as the request's map phase
+public final class TimedMapping {
+
+    private TimedMapping() {
+    }
+
+    public static <T, R> R map(T source, Function<? super T, ? extends R> mapper) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return mapper.apply(source);
+        }
+        timings.beginMapping();
+        try {
+            return mapper.apply(source);
+        } finally {
+            timings.endMapping();
+        }
+    }
+
+    public static <T, R> List<R> mapAll(Collection<? extends T> sources, Function<? super T, ? extends R> mapper) {
+        return map(sources, all -> all.stream().<R>map(mapper::apply).collect(Collectors.toList()));
+    }
+}
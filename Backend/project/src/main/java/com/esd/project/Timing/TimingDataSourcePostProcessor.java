@@ -0,0 +1,104 @@
+package com.esd.project.Timing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Wraps the DataSource so time spent in Statement.execute* and ResultSet.next (row fetching)
+// counts towards the db phase. The wrapper is a DelegatingDataSource, so Boot's DataSourceUnwrapper
+// still reaches the pool behind it (Hikari pool metrics, health).
+@Component
+public class TimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final boolean enabled;
+
+    public TimingDataSourcePostProcessor(@Value("${server-timing.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof TimingDataSource)) {
+            return new TimingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    static final class TimingDataSource extends DelegatingDataSource {
+
+        private TimingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return (Connection) proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return (Connection) proxy(Connection.class, super.getConnection(username, password));
+        }
+    }
+
+    private static Object proxy(Class<?> type, Object target) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new TimingHandler(target));
+    }
+
+    private static final class TimingHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private TimingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            boolean timed = target instanceof Statement && method.getName().startsWith("execute")
+                    || target instanceof ResultSet && method.getName().equals("next");
+            long start = timed ? System.nanoTime() : 0;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            } finally {
+                if (timed) {
+                    RequestTimings timings = RequestTimings.current();
+                    if (timings != null) {
+                        timings.add(TimingPhase.DB, System.nanoTime() - start);
+                    }
+                }
+            }
+            return wrap(method.getReturnType(), result);
+        }
+
+        private static Object wrap(Class<?> returnType, Object result) {
+            if (result == null) {
+                return null;
+            }
+            if (returnType == Connection.class
+                    || returnType == Statement.class
+                    || returnType == PreparedStatement.class
+                    || returnType == CallableStatement.class
+                    || returnType == ResultSet.class) {
+                return proxy(returnType, result);
+            }
+            return result;
+        }
+    }
+}
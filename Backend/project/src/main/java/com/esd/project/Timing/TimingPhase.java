@@ -0,0 +1,29 @@
+package com.esd.project.Timing;
+
+// SERIALIZATION ends after the response is committed, so it never appears in the Server-Timing
+// header; it is reported in the sampled requests and the server.timing.phase metric only.
+public enum TimingPhase {
+    SECURITY("sec", "Security filter chain"),
+    SESSION("session", "Session lookup"),
+    APP("app", "Controller and service"),
+    MAPPING("map", "Entity to response mapping"),
+    DB("db", "JDBC statements and result fetching"),
+    SERIALIZATION("ser", "Response serialization"),
+    TOTAL("total", "Whole request");
+
+    private final String metricName;
+    private final String description;
+
+    TimingPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String description() {
+        return description;
+    }
+}
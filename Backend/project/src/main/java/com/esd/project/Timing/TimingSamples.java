@@ -0,0 +1,74 @@
+package com.esd.project.Timing;
+
+import com.esd.project.DTO.Response.ServerTimingSampleResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+// Ring buffer of the most recent sampled requests; older samples are overwritten.
+// Every sampled phase is also recorded in the server.timing.phase timer (tag phase), which is
+// where serialization time shows up: it is not known until after the header was sent.
+@Component
+public class TimingSamples {
+
+    private final AtomicReferenceArray<ServerTimingSampleResponse> ring;
+    private final AtomicLong next = new AtomicLong();
+    private final double sampleRate;
+    private final Timer[] phaseTimers = new Timer[TimingPhase.values().length];
+
+    public TimingSamples(MeterRegistry meterRegistry,
+                         @Value("${server-timing.sample-capacity:1024}") int capacity,
+                         @Value("${server-timing.sample-rate:1.0}") double sampleRate) {
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.sampleRate = sampleRate;
+        for (TimingPhase phase : TimingPhase.values()) {
+            phaseTimers[phase.ordinal()] = Timer.builder("server.timing.phase")
+                    .description(phase.description())
+                    .tag("phase", phase.metricName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public void add(String method, String path, int status, RequestTimings timings) {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        ServerTimingSampleResponse sample = new ServerTimingSampleResponse(
+                method,
+                path,
+                status,
+                Math.round(timings.millis(TimingPhase.TOTAL) * 100) / 100.0,
+                timings.toMillisMap(),
+                LocalDateTime.now());
+        ring.set((int) (next.getAndIncrement() % ring.length()), sample);
+
+        for (TimingPhase phase : TimingPhase.values()) {
+            phaseTimers[phase.ordinal()].record(timings.nanos(phase), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public List<ServerTimingSampleResponse> slowest(int limit) {
+        List<ServerTimingSampleResponse> all = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            ServerTimingSampleResponse sample = ring.get(i);
+            if (sample != null) {
+                all.add(sample);
+            }
+        }
+        return all.stream()
+                .sorted(Comparator.comparing(ServerTimingSampleResponse::getTotalMs).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.esd.project.Versioning;
+
+import com.esd.project.Event.ChangeEvent;
+import com.esd.project.Repository.StudentVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Bumps the version of every student whose bill list a change touched, inside the changing
+// transaction, so a new ETag can never be observed before the data it describes.
+// Bill deletion bumps the holders itself, before their rows are removed.
+@Component
+public class StudentVersionListener {
+
+    private final StudentVersionRepository versionRepository;
+
+    public StudentVersionListener(StudentVersionRepository versionRepository) {
+        this.versionRepository = versionRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        switch (event.getType()) {
+            case BILL_UPDATED -> versionRepository.bumpHoldersOfBill(event.getBillId());
+            case BILLS_UPDATED -> versionRepository.bumpHoldersOfBills(event.getBillIds());
+            case ASSIGNMENT_ADDED, ASSIGNMENT_REMOVED -> {
+                if (event.getStudentIds() != null) {
+                    versionRepository.bumpStudents(event.getStudentIds());
+                } else if (event.getDomain() != null) {
+                    versionRepository.bumpDomain(event.getDomain());
+                }
+            }
+            default -> {
+                // A new bill has no holders yet; deletion is handled in BillsService
+            }
+        }
+    }
+}
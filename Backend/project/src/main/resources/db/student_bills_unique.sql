@@ -0,0 +1,12 @@
+-- One-off migration for existing databases: remove duplicate assignments
+-- (keeping the oldest row) and add the unique key the service now relies on.
+-- Fresh schemas get the constraint from ddl-auto.
+
+delete dup from student_bills dup
+join student_bills keep
+  on keep.student_id = dup.student_id
+ and keep.bill_id = dup.bill_id
+ and keep.id < dup.id;
+
+alter table student_bills
+  add constraint uk_student_bills_student_bill unique (student_id, bill_id);
@@ -0,0 +1,83 @@
+package com.esd.project.Cluster;
+
+import com.esd.project.Index.AssignmentIndex;
+import com.esd.project.ProjectApplication;
+import com.esd.project.Service.StudentBillsService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+// Two nodes in one JVM sharing an embedded database: a change made on one must reach the other's index
+class ClusterInvalidationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = start("create-drop");
+        // The second node uses the schema the first one created
+        nodeB = start("none");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        // Arguments rather than builder properties, which application.properties would override
+        return new SpringApplicationBuilder(ProjectApplication.class)
+                .profiles("test")
+                .run("--test.database=cluster",
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--server.port=0",
+                        "--cluster.invalidation.enabled=true",
+                        "--cluster.invalidation.poll-interval-ms=50");
+    }
+
+    @Test
+    void assignmentsAndDomainMembershipReachTheOtherNode() {
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        AssignmentIndex indexB = nodeB.getBean(AssignmentIndex.class);
+        assertThat(indexB.isLoaded()).isTrue();
+
+        // Students arrive after both indexes were loaded, outside the application
+        jdbcTemplate.update("insert into domain (domain_name) values ('CSE')");
+        Long domainId = jdbcTemplate.queryForObject("select domain_id from domain where domain_name = 'CSE'", Long.class);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update("insert into student (roll_number, name, email, domain) values (?, ?, ?, ?)",
+                    "R" + i, "Student " + i, "r" + i + "@esd.local", domainId);
+        }
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values (?, ?, ?, ?)",
+                "Tuition", 1000.0, LocalDate.now(), LocalDate.now().plusDays(30));
+        Long billId = jdbcTemplate.queryForObject("select bill_id from bills", Long.class);
+        assertThat(indexB.countStudentsInDomain(domainId)).isZero();
+
+        nodeA.getBean(StudentBillsService.class).assignBillToDomainSummary("CSE", billId);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(indexB.countStudentsInDomain(domainId)).isEqualTo(3);
+            assertThat(indexB.countAssignedInDomain(domainId, billId)).isEqualTo(3);
+        });
+
+        nodeA.getBean(StudentBillsService.class).deleteSpecificBillForStudent("R0", billId);
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(indexB.countAssignedInDomain(domainId, billId)).isEqualTo(2));
+    }
+}
@@ -0,0 +1,107 @@
+package com.esd.project.Coalescing;
+
+import com.esd.project.DTO.Response.StudentBillResponse;
+import com.esd.project.Exception.BusinessException;
+import com.esd.project.Service.StudentBillsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AssignmentCoalescerTest {
+
+    private final StudentBillsService service = mock(StudentBillsService.class);
+    private final StudentBillResponse response = new StudentBillResponse();
+    private AssignmentCoalescer coalescer;
+
+    @BeforeEach
+    void start() {
+        coalescer = new AssignmentCoalescer(service, new SimpleMeterRegistry(), true, 1000, 64, 16, 500);
+        coalescer.start();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("officer@esd.local", null));
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        SecurityContextHolder.clearContext();
+        coalescer.shutdown();
+    }
+
+    @Test
+    void fallbackAfterAFailedBatchKeepsTheCallersActor() {
+        doThrow(new IllegalStateException("batch rolled back")).when(service).assignCoalesced(anyList());
+        when(service.assignBillToStudent("R1", 1L, "officer@esd.local")).thenReturn(response);
+
+        assertThat(coalescer.assign("R1", 1L)).isSameAs(response);
+    }
+
+    @Test
+    void errorInABatchFailsItsCallersButNotTheWorker() {
+        doThrow(new AssertionError("boom"))
+                .doAnswer(invocation -> {
+                    List<SingleAssignment> batch = invocation.getArgument(0);
+                    batch.forEach(assignment -> assignment.setResponse(response));
+                    return null;
+                })
+                .when(service).assignCoalesced(anyList());
+
+        assertThatThrownBy(() -> coalescer.assign("R1", 1L)).isInstanceOf(BusinessException.class);
+        assertThat(coalescer.assign("R2", 1L)).isSameAs(response);
+    }
+
+    @Test
+    void callThatTimesOutWhileQueuedIsWithdrawn() throws Exception {
+        CountDownLatch firstBatchRunning = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            List<SingleAssignment> batch = invocation.getArgument(0);
+            if (batch.get(0).getRollNumber().equals("R1")) {
+                firstBatchRunning.countDown();
+                releaseFirstBatch.await(5, TimeUnit.SECONDS);
+            }
+            batch.forEach(assignment -> assignment.setResponse(response));
+            return null;
+        }).when(service).assignCoalesced(anyList());
+
+        CompletableFuture<StudentBillResponse> first = CompletableFuture.supplyAsync(() -> coalescer.assign("R1", 1L));
+        assertThat(firstBatchRunning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Queued behind the blocked batch until its wait runs out
+        assertThatThrownBy(() -> coalescer.assign("R2", 1L))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("timed out");
+
+        releaseFirstBatch.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(coalescer.assign("R3", 1L)).isSameAs(response);
+        verify(service, never()).assignCoalesced(argThat(batch ->
+                batch.stream().anyMatch(assignment -> assignment.getRollNumber().equals("R2"))));
+    }
+
+    @Test
+    void callsAfterShutdownRunInline() throws InterruptedException {
+        coalescer.shutdown();
+        when(service.assignBillToStudent("R1", 1L)).thenReturn(response);
+
+        assertThat(coalescer.assign("R1", 1L)).isSameAs(response);
+        verify(service, never()).assignCoalesced(anyList());
+    }
+}
@@ -0,0 +1,78 @@
+package com.esd.project.Controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// CBOR and Smile are offered only by the list endpoints that declare them; everything else stays JSON.
+// Security filters are left out; the controller and message converters run as deployed.
+@SpringBootTest(properties = "test.database=binary")
+@ActiveProfiles("test")
+class BinaryFormatsTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private long billId;
+
+    @BeforeEach
+    void seed() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        jdbcTemplate.update("delete from student_bills");
+        jdbcTemplate.update("delete from bills");
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values ('Tuition', 1500.0, ?, ?)",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+        billId = jdbcTemplate.queryForObject("select bill_id from bills", Long.class);
+    }
+
+    @Test
+    void listEndpointAnswersInCborWithEpochDayDates() throws Exception {
+        byte[] body = mockMvc.perform(get("/bills/show-all-bills").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode bill = CBORMapper.builder().build().readTree(body).get(0);
+        assertThat(bill.get("description").asString()).isEqualTo("Tuition");
+        assertThat(bill.get("billDate").asLong()).isEqualTo(LocalDate.of(2026, 1, 1).toEpochDay());
+    }
+
+    @Test
+    void jsonStaysTheDefault() throws Exception {
+        mockMvc.perform(get("/bills/show-all-bills").accept("*/*"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andExpect(jsonPath("$[0].billDate").value("2026-01-01"));
+    }
+
+    @Test
+    void otherEndpointsDoNotNegotiateBinary() throws Exception {
+        mockMvc.perform(get("/bills/" + billId).accept("application/cbor"))
+                .andExpect(status().isNotAcceptable());
+
+        mockMvc.perform(post("/bills/add-bill").contentType("application/cbor").content(new byte[]{(byte) 0xa0}))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
@@ -0,0 +1,62 @@
+package com.esd.project.Controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// List endpoints map lazy associations after the service returns; they must keep working under the fast profile.
+// Security filters are left out; the controller, interceptors and message converters run as deployed.
+@SpringBootTest(properties = {
+        "test.database=fast",
+        // The fast profile never creates the schema; the test database needs one
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@ActiveProfiles({"test", "fast"})
+class FastProfileReadTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void seed() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+
+        jdbcTemplate.update("delete from student_bills");
+        jdbcTemplate.update("delete from student");
+        jdbcTemplate.update("delete from bills");
+        jdbcTemplate.update("delete from domain");
+        jdbcTemplate.update("insert into domain (domain_name) values ('CSE')");
+        Long domainId = jdbcTemplate.queryForObject("select domain_id from domain", Long.class);
+        jdbcTemplate.update("insert into student (roll_number, name, email, domain) values ('R1', 'Asha', 'r1@esd.local', ?)",
+                domainId);
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values ('Tuition', 1500.0, ?, ?)",
+                LocalDate.now(), LocalDate.now().plusDays(30));
+        jdbcTemplate.update("insert into student_bills (student_id, bill_id) "
+                + "select s.student_id, b.bill_id from student s, bills b");
+    }
+
+    @Test
+    void studentBillListMapsStudentAndBillColumns() throws Exception {
+        mockMvc.perform(get("/student-bills/all-bills-of-roll/R1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].studentName").value("Asha"))
+                .andExpect(jsonPath("$[0].billDescription").value("Tuition"));
+    }
+}
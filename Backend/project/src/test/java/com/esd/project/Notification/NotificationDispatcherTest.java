@@ -0,0 +1,181 @@
+package com.esd.project.Notification;
+
+import com.esd.project.Repository.NotificationOutboxRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Outbox -> SMTP end to end, against an in-process GreenMail server
+@SpringBootTest(properties = {
+        "test.database=notifications",
+        "notifications.transport=smtp",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "notifications.max-attempts=2",
+        "notifications.backoff-base-ms=0"
+})
+@ActiveProfiles("test")
+class NotificationDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long domainId;
+
+    @BeforeEach
+    void clean() {
+        jdbcTemplate.update("delete from notification_outbox");
+        jdbcTemplate.update("delete from student");
+        jdbcTemplate.update("delete from bills");
+        jdbcTemplate.update("delete from domain");
+        jdbcTemplate.update("insert into domain (domain_name) values ('CSE')");
+        domainId = jdbcTemplate.queryForObject("select domain_id from domain", Long.class);
+    }
+
+    @Test
+    void sendsOneMessagePerRecipientCoveringAllTheirBills() throws Exception {
+        long alice = student("R1", "alice@esd.local");
+        long bob = student("R2", "bob@esd.local");
+        long tuition = bill("Tuition");
+        long hostel = bill("Hostel");
+        outboxRepository.enqueueAssignments(tuition, List.of(alice, bob));
+        outboxRepository.enqueueAssignments(hostel, List.of(alice));
+
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(3);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(2);
+        Map<String, MimeMessage> byRecipient = Map.of(
+                received[0].getAllRecipients()[0].toString(), received[0],
+                received[1].getAllRecipients()[0].toString(), received[1]);
+        assertThat(byRecipient.get("alice@esd.local").getSubject()).isEqualTo("2 new bills");
+        assertThat((String) byRecipient.get("alice@esd.local").getContent()).contains("Tuition", "Hostel");
+        assertThat(byRecipient.get("bob@esd.local").getSubject()).isEqualTo("New bill: Tuition");
+
+        assertThat(statuses()).containsOnly("SENT");
+        assertThat(dispatcher.dispatchOnce()).isZero();
+    }
+
+    @Test
+    void claimSkipsRowsNotYetDueAndTakesOverExpiredClaims() {
+        long alice = student("R1", "alice@esd.local");
+        long bob = student("R2", "bob@esd.local");
+        long carol = student("R3", "carol@esd.local");
+        long tuition = bill("Tuition");
+        outboxRepository.enqueueAssignments(tuition, List.of(alice, bob, carol));
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("update notification_outbox set next_attempt_at = ? where student_id = ?",
+                Timestamp.valueOf(now.plusHours(1)), bob);
+        // A dispatcher that died mid-send; its claim has expired
+        jdbcTemplate.update("update notification_outbox set status = 'SENDING', claimed_by = 'dead', "
+                + "claimed_until = ? where student_id = ?", Timestamp.valueOf(now.minusMinutes(1)), carol);
+
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(2);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(statusOf(alice)).isEqualTo("SENT");
+        assertThat(statusOf(bob)).isEqualTo("PENDING");
+        assertThat(statusOf(carol)).isEqualTo("SENT");
+    }
+
+    @Test
+    void failedSendIsRetriedOnALaterPass() {
+        long alice = student("R1", "alice@esd.local");
+        outboxRepository.enqueueAssignments(bill("Tuition"), List.of(alice));
+
+        greenMail.stop();
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select status, attempts, last_error, claimed_by from notification_outbox");
+        assertThat(row.get("status")).isEqualTo("PENDING");
+        assertThat(((Number) row.get("attempts")).intValue()).isEqualTo(1);
+        assertThat(row.get("last_error")).isNotNull();
+        assertThat(row.get("claimed_by")).isNull();
+
+        greenMail.start();
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(statusOf(alice)).isEqualTo("SENT");
+    }
+
+    @Test
+    void rowFailsPermanentlyAfterMaxAttempts() {
+        long alice = student("R1", "alice@esd.local");
+        outboxRepository.enqueueAssignments(bill("Tuition"), List.of(alice));
+
+        greenMail.stop();
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        assertThat(dispatcher.dispatchOnce()).isEqualTo(1);
+        assertThat(statusOf(alice)).isEqualTo("FAILED");
+
+        greenMail.start();
+        assertThat(dispatcher.dispatchOnce()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void claimsThatCrashTheSenderRunOutOfAttempts() {
+        long alice = student("R1", "alice@esd.local");
+        outboxRepository.enqueueAssignments(bill("Tuition"), List.of(alice));
+
+        // Two dispatchers died mid-send on this row; each claim was an attempt
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            assertThat(outboxRepository.claim("dead-" + attempt, 10, LocalDateTime.now(),
+                    LocalDateTime.now().minusMinutes(1), 2)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("select attempts from notification_outbox", Integer.class))
+                    .isEqualTo(attempt);
+        }
+
+        assertThat(dispatcher.dispatchOnce()).isZero();
+        assertThat(statusOf(alice)).isEqualTo("FAILED");
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private long student(String rollNumber, String email) {
+        jdbcTemplate.update("insert into student (roll_number, name, email, domain) values (?, ?, ?, ?)",
+                rollNumber, email.substring(0, email.indexOf('@')), email, domainId);
+        return jdbcTemplate.queryForObject("select student_id from student where roll_number = ?",
+                Long.class, rollNumber);
+    }
+
+    private long bill(String description) {
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values (?, ?, ?, ?)",
+                description, 1000.0, LocalDate.now(), LocalDate.now().plusDays(30));
+        return jdbcTemplate.queryForObject("select bill_id from bills where description = ?",
+                Long.class, description);
+    }
+
+    private List<String> statuses() {
+        return jdbcTemplate.queryForList("select status from notification_outbox", String.class);
+    }
+
+    private String statusOf(long studentId) {
+        return jdbcTemplate.queryForObject("select status from notification_outbox where student_id = ?",
+                String.class, studentId);
+    }
+}
@@ -0,0 +1,115 @@
+package com.esd.project.Repository;
+
+import com.esd.project.DTO.Response.BillStudentResponse;
+import com.esd.project.DTO.Response.BillStudentsCompactResponse;
+import com.esd.project.DTO.Response.BillStudentsPageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Keyset pages over student_bills: every holder exactly once, in student id order, with filters applied
+@SpringBootTest(properties = "test.database=bill-students")
+@ActiveProfiles("test")
+@Transactional
+class BillStudentsRepositoryTest {
+
+    @Autowired
+    private BillStudentsRepository billStudentsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long billId;
+    private long cseId;
+
+    @BeforeEach
+    void seed() {
+        cseId = domain("CSE");
+        long eceId = domain("ECE");
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values ('Hostel', 500.0, ?, ?)",
+                LocalDate.now().minusMonths(2), LocalDate.now().minusMonths(1));
+        billId = jdbcTemplate.queryForObject("select bill_id from bills", Long.class);
+
+        // Roll numbers run against insertion order, so roll-number and id order differ
+        for (int i = 0; i < 7; i++) {
+            long studentId = student("R" + (9 - i), i % 2 == 0 ? cseId : eceId);
+            if (i != 3) {
+                jdbcTemplate.update("insert into student_bills (student_id, bill_id) values (?, ?)", studentId, billId);
+            }
+        }
+    }
+
+    @Test
+    void walksEveryHolderOnceInStudentIdOrder() {
+        List<String> seen = new ArrayList<>();
+        Long after = null;
+        int pages = 0;
+        do {
+            BillStudentsPageResponse page = billStudentsRepository.findPage(billId, after, null, null, 2);
+            page.getStudents().forEach(student -> seen.add(student.getRollNumber()));
+            after = page.getNextAfter();
+            pages++;
+        } while (after != null);
+
+        assertThat(seen).containsExactly("R9", "R8", "R7", "R5", "R4", "R3");
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        BillStudentsPageResponse page = billStudentsRepository.findPage(billId, null, null, null, 6);
+
+        assertThat(page.getStudents()).hasSize(6);
+        assertThat(page.getNextAfter()).isNull();
+    }
+
+    @Test
+    void compactPageMatchesTheRowPage() {
+        BillStudentsPageResponse page = billStudentsRepository.findPage(billId, null, null, null, 4);
+        BillStudentsCompactResponse compact = billStudentsRepository.findCompactPage(billId, null, null, null, 4);
+
+        assertThat(compact.getStudentBillIds()).containsExactlyElementsOf(
+                page.getStudents().stream().map(BillStudentResponse::getStudentBillId).toList());
+        assertThat(compact.getRollNumbers()).containsExactly("R9", "R8", "R7", "R5");
+        assertThat(compact.getStudentNames()).hasSize(4);
+        assertThat(compact.getStudentEmails()).containsExactly("R9@esd.local", "R8@esd.local", "R7@esd.local", "R5@esd.local");
+        assertThat(compact.getNextAfter()).isEqualTo(page.getNextAfter()).isNotNull();
+    }
+
+    @Test
+    void appliesDomainAndUnpaidFilters() {
+        Long paidInFull = jdbcTemplate.queryForObject("select sb.id from student_bills sb "
+                + "join student s on s.student_id = sb.student_id where s.roll_number = 'R7'", Long.class);
+        jdbcTemplate.update("insert into payments (student_bill_id, amount, paid_on, reference, recorded_at) "
+                + "values (?, 500.0, ?, 'REF-1', ?)", paidInFull, LocalDate.now(), LocalDateTime.now());
+
+        BillStudentsPageResponse page = billStudentsRepository.findPage(billId, null, cseId, 500.0, 10);
+
+        assertThat(page.getStudents()).extracting(BillStudentResponse::getRollNumber)
+                .containsExactly("R9", "R5", "R3");
+        assertThat(billStudentsRepository.count(billId, cseId, 500.0)).isEqualTo(3);
+    }
+
+    private long domain(String name) {
+        jdbcTemplate.update("insert into domain (domain_name) values (?)", name);
+        return jdbcTemplate.queryForObject("select domain_id from domain where domain_name = ?", Long.class, name);
+    }
+
+    private long student(String rollNumber, long domainId) {
+        jdbcTemplate.update("insert into student (roll_number, name, email, domain) values (?, ?, ?, ?)",
+                rollNumber, "Student " + rollNumber, rollNumber + "@esd.local", domainId);
+        return jdbcTemplate.queryForObject("select student_id from student where roll_number = ?",
+                Long.class, rollNumber);
+    }
+}
@@ -0,0 +1,94 @@
+package com.esd.project.Repository;
+
+import com.esd.project.Config.BinaryFormatsConfig;
+import com.esd.project.Projection.BillField;
+import com.esd.project.Projection.FieldSet;
+import com.esd.project.Projection.StudentBillField;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Selected columns are written straight from the query rows, in the response format's own encoding
+@SpringBootTest(properties = "test.database=projection")
+@ActiveProfiles("test")
+@Transactional
+class ProjectionRepositoryTest {
+
+    private static final LocalDate DEADLINE = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private ProjectionRepository projectionRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private CBORMapper.Builder cborMapperBuilder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long studentId;
+    private long billId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("insert into domain (domain_name) values ('CSE')");
+        Long domainId = jdbcTemplate.queryForObject("select domain_id from domain", Long.class);
+        jdbcTemplate.update("insert into student (roll_number, name, email, domain) values ('R1', 'Asha', 'r1@esd.local', ?)",
+                domainId);
+        studentId = jdbcTemplate.queryForObject("select student_id from student", Long.class);
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values ('Tuition', 1500.0, ?, ?)",
+                DEADLINE.minusMonths(1), DEADLINE);
+        billId = jdbcTemplate.queryForObject("select bill_id from bills", Long.class);
+        jdbcTemplate.update("insert into student_bills (student_id, bill_id) values (?, ?)", studentId, billId);
+    }
+
+    @Test
+    void writesRequestedFieldsInCanonicalOrder() {
+        String json = jsonMapper.writeValueAsString(
+                projectionRepository.findAllBills(FieldSet.parse(BillField.class, "deadline, description")));
+
+        assertThat(json).isEqualTo("[{\"description\":\"Tuition\",\"deadline\":\"2026-03-31\"}]");
+    }
+
+    @Test
+    void writesSingleRowAndSingleField() {
+        String json = jsonMapper.writeValueAsString(
+                projectionRepository.findBillById(billId, FieldSet.parse(BillField.class, "amount")).orElseThrow());
+
+        assertThat(json).isEqualTo("{\"amount\":1500.0}");
+    }
+
+    @Test
+    void readsStudentBillsWithAndWithoutJoins() {
+        String idsOnly = jsonMapper.writeValueAsString(projectionRepository.findStudentBillsByStudentId(
+                studentId, FieldSet.parse(StudentBillField.class, "billId")));
+        String joined = jsonMapper.writeValueAsString(projectionRepository.findStudentBillsByStudentId(
+                studentId, FieldSet.parse(StudentBillField.class, "rollNumber,billDescription")));
+
+        assertThat(idsOnly).isEqualTo("[{\"billId\":" + billId + "}]");
+        assertThat(joined).isEqualTo("[{\"rollNumber\":\"R1\",\"billDescription\":\"Tuition\"}]");
+    }
+
+    @Test
+    void binaryFormatsKeepTheirDateEncoding() {
+        CBORMapper cborMapper = BinaryFormatsConfig.cborMapper(cborMapperBuilder);
+        byte[] cbor = cborMapper.writeValueAsBytes(
+                projectionRepository.findAllBills(FieldSet.parse(BillField.class, "deadline")));
+
+        JsonNode row = cborMapper.readTree(cbor).get(0);
+        assertThat(row.get("deadline").asLong()).isEqualTo(DEADLINE.toEpochDay());
+    }
+}
@@ -0,0 +1,152 @@
+package com.esd.project.Service;
+
+import com.esd.project.Exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Many threads assign the same bills at once; the unique key must leave exactly one row per pair
+@SpringBootTest(properties = "test.database=contention")
+@ActiveProfiles("test")
+class AssignmentContentionTest {
+
+    private static final int THREADS = 16;
+    private static final int STUDENTS = 100;
+
+    @Autowired
+    private StudentBillsService studentBillsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> rollNumbers = new ArrayList<>();
+    // Anything but the expected "already assigned" rejection: deadlocks, lock timeouts, unique key violations
+    private final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("delete from student_bills");
+        jdbcTemplate.update("delete from student");
+        jdbcTemplate.update("delete from bills");
+        jdbcTemplate.update("delete from domain");
+
+        jdbcTemplate.update("insert into domain (domain_name) values ('CSE')");
+        Long domainId = jdbcTemplate.queryForObject("select domain_id from domain", Long.class);
+        rollNumbers.clear();
+        errors.clear();
+        for (int i = 0; i < STUDENTS; i++) {
+            String roll = "R" + i;
+            jdbcTemplate.update("insert into student (roll_number, name, email, domain) values (?, ?, ?, ?)",
+                    roll, "Student " + i, roll + "@esd.local", domainId);
+            rollNumbers.add(roll);
+        }
+    }
+
+    @Test
+    void concurrentSingleAssignmentsLeaveOneRowPerPair() throws Exception {
+        long billId = bill("Tuition");
+        AtomicInteger assigned = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Every thread tries every student, in its own order
+        hammer(() -> {
+            List<String> order = new ArrayList<>(rollNumbers);
+            Collections.shuffle(order, ThreadLocalRandom.current());
+            for (String roll : order) {
+                try {
+                    studentBillsService.assignBillToStudent(roll, billId);
+                    assigned.incrementAndGet();
+                } catch (BusinessException ex) {
+                    rejected.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    errors.add(ex);
+                }
+            }
+            return null;
+        });
+
+        // Losers are turned away by the unique key, not by an error
+        assertThat(errors).isEmpty();
+        assertThat(assigned.get()).isEqualTo(STUDENTS);
+        assertThat(rejected.get()).isEqualTo(STUDENTS * (THREADS - 1));
+        assertOneRowPerStudent(billId);
+    }
+
+    @Test
+    void concurrentDomainAssignmentsLeaveOneRowPerPair() throws Exception {
+        long billId = bill("Hostel");
+        AtomicInteger assigned = new AtomicInteger();
+
+        hammer(() -> {
+            try {
+                assigned.addAndGet(studentBillsService.assignBillToDomainSummary("CSE", billId).getAssigned());
+            } catch (BusinessException ex) {
+                // Every student already held the bill when this call ran
+            } catch (RuntimeException ex) {
+                errors.add(ex);
+            }
+            return null;
+        });
+
+        // Each student is reported as assigned by exactly one call
+        assertThat(errors).isEmpty();
+        assertThat(assigned.get()).isEqualTo(STUDENTS);
+        assertOneRowPerStudent(billId);
+    }
+
+    private void hammer(Callable<Void> client) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return client.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void assertOneRowPerStudent(long billId) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "select count(*) from student_bills where bill_id = ?", Integer.class, billId);
+        Integer duplicates = jdbcTemplate.queryForObject("select count(*) from (select student_id from student_bills "
+                + "group by student_id, bill_id having count(*) > 1) d", Integer.class);
+        assertThat(rows).isEqualTo(STUDENTS);
+        assertThat(duplicates).isZero();
+    }
+
+    private long bill(String description) {
+        jdbcTemplate.update("insert into bills (description, amount, bill_date, deadline) values (?, ?, ?, ?)",
+                description, 1000.0, LocalDate.now(), LocalDate.now().plusDays(30));
+        return jdbcTemplate.queryForObject("select bill_id from bills where description = ?",
+                Long.class, description);
+    }
+}